@@ -0,0 +1,117 @@
+package benchmarks;
+
+import driver.DriverFactory;
+import driver.DriverKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import pages.MainPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static constants.constant.Urls.MAIN_PAGE;
+
+/**
+ * Cost of page object operations against local test pages in headless browser.
+ * Browser is chosen with '-Dbrowser' variable. Single-element and batched variants
+ * of the same check are measured side by side.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class PageBenchmark {
+    private static final String NAME = "User";
+    private static final String EMAIL = "test@test.mail";
+    private static final String PHONE = "+99112345678";
+
+    private WebDriver driver;
+    private MainPage mainPage;
+    private List<By> allLocators;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = DriverFactory.create(new DriverKey(System.getProperty("browser", "chrome"), true));
+        mainPage = new MainPage(driver);
+        mainPage.open(MAIN_PAGE);
+        mainPage.inputUserDetails(NAME, EMAIL, PHONE);
+        mainPage.handleAlert();
+        allLocators = new ArrayList<>();
+        allLocators.add(MainPage.TITLE_LOCATOR);
+        allLocators.addAll(MainPage.RADIO_SECTION_LOCATORS);
+        allLocators.addAll(MainPage.CHECKBOX_SECTION_LOCATORS);
+        allLocators.addAll(MainPage.INPUT_SECTION_LOCATORS);
+        allLocators.addAll(MainPage.DROPDOWN_SECTION_LOCATORS);
+        allLocators.addAll(MainPage.LINKS_SECTION_LOCATORS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public String getElementText() {
+        return mainPage.getElementText(MainPage.TITLE_LOCATOR);
+    }
+
+    @Benchmark
+    public void clickElement() {
+        mainPage.clickElement(MainPage.RADIO_OPTION_ONE_LOCATOR);
+    }
+
+    @Benchmark
+    public void selectByIndex() {
+        mainPage.selectByIndex(MainPage.DROPDOWN_LOCATOR, 1);
+    }
+
+    @Benchmark
+    public void selectByValue() {
+        mainPage.selectByValue(MainPage.DROPDOWN_LOCATOR, "3");
+    }
+
+    @Benchmark
+    public void displayedOneByOne(Blackhole blackhole) {
+        for (By locator : allLocators) {
+            blackhole.consume(mainPage.checkElementIsDisplayed(locator));
+        }
+    }
+
+    @Benchmark
+    public boolean displayedBatched() {
+        return mainPage.findAllElements();
+    }
+
+    @Benchmark
+    public boolean userDataCellByCell() {
+        return NAME.equals(mainPage.getElementText(MainPage.USER_NAME_TABLE_LOCATOR))
+                && EMAIL.equals(mainPage.getElementText(MainPage.USER_EMAIL_TABLE_LOCATOR))
+                && PHONE.equals(mainPage.getElementText(MainPage.USER_PHONE_TABLE_LOCATOR));
+    }
+
+    @Benchmark
+    public boolean userDataTableSnapshot() {
+        return mainPage.checkUserDataInTable(NAME, EMAIL, PHONE);
+    }
+
+    @Benchmark
+    public List<Integer> separateNumbersFromString() {
+        return mainPage.separateNumbersFromString("Selected options: 1, 2, 3");
+    }
+}
@@ -1,5 +1,7 @@
 package constants;
 
+import server.StaticServer;
+
 
 public class constant {
     public static class TimeoutVar {
@@ -8,9 +10,10 @@ public class constant {
 
     public static class Urls {
 
-        public static final String MAIN_PAGE = "file://" + System.getProperty("user.dir") + "/testPages/testPageMain.html";
-        public static final String FIRST_PAGE = "file://" + System.getProperty("user.dir") + "/testPages/link1.html";
-        public static final String SECOND_PAGE = "file://" + System.getProperty("user.dir") + "/testPages/link2.html";
+        public static final String BASE_URL = StaticServer.baseUrlFromSystemProperties();
+        public static final String MAIN_PAGE = BASE_URL + "/testPageMain.html";
+        public static final String FIRST_PAGE = BASE_URL + "/link1.html";
+        public static final String SECOND_PAGE = BASE_URL + "/link2.html";
 
     }
 }
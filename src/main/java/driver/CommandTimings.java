@@ -0,0 +1,132 @@
+package driver;
+
+import metrics.LatencyRecorder;
+import metrics.StepTracker;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Times every WebDriver command and aggregates latencies per command, per locator and per Allure step.
+ * Turned on with '-Dtimings=true' variable, otherwise drivers are returned undecorated.
+ */
+public final class CommandTimings {
+    public static final String COMMAND = "command";
+    public static final String LOCATOR = "locator";
+    public static final String STEP = "step";
+
+    private static final LatencyRecorder TOTAL = new LatencyRecorder();
+    private static final ThreadLocal<LatencyRecorder> CURRENT_TEST = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<Long>> STARTED = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private CommandTimings() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("timings", "false"));
+    }
+
+    /**
+     * Wrap driver so its commands are timed, when timings are turned on
+     *
+     * @param driver defines driver to be instrumented
+     */
+    public static WebDriver instrument(WebDriver driver) {
+        return isEnabled() ? new EventFiringDecorator<>(new TimingListener()).decorate(driver) : driver;
+    }
+
+    /**
+     * Latencies of all commands since JVM start
+     */
+    public static LatencyRecorder total() {
+        return TOTAL;
+    }
+
+    /**
+     * Start collecting latencies of commands sent from current thread separately
+     */
+    public static void startTest() {
+        CURRENT_TEST.set(new LatencyRecorder());
+    }
+
+    /**
+     * Stop collecting latencies of current thread separately
+     *
+     * @return latencies collected since {@link #startTest()}, null if it was not called
+     */
+    public static LatencyRecorder finishTest() {
+        LatencyRecorder recorder = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        return recorder;
+    }
+
+    private static void record(Object target, Method method, Object[] args, long nanos) {
+        String command = commandName(target, method);
+        String step = StepTracker.currentStep();
+        By locator = null;
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof By by) {
+                    locator = by;
+                }
+            }
+        }
+        LatencyRecorder test = CURRENT_TEST.get();
+        for (LatencyRecorder recorder : test == null ? new LatencyRecorder[]{TOTAL} : new LatencyRecorder[]{TOTAL, test}) {
+            recorder.record(COMMAND, command, nanos);
+            if (locator != null) {
+                recorder.record(LOCATOR, locator.toString(), nanos);
+            }
+            if (step != null) {
+                recorder.record(STEP, step, nanos);
+            }
+        }
+    }
+
+    private static String commandName(Object target, Method method) {
+        String type;
+        if (target instanceof WebDriver) {
+            type = "WebDriver";
+        } else if (target instanceof WebElement) {
+            type = "WebElement";
+        } else if (target instanceof Alert) {
+            type = "Alert";
+        } else {
+            type = method.getDeclaringClass().getSimpleName();
+        }
+        return type + "." + method.getName();
+    }
+
+    private static final class TimingListener implements WebDriverListener {
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            STARTED.get().push(System.nanoTime());
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finish(target, method, args);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            finish(target, method, args);
+        }
+
+        private void finish(Object target, Method method, Object[] args) {
+            Long started = STARTED.get().poll();
+            if (started != null) {
+                record(target, method, args, System.nanoTime() - started);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package driver;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.interactions.Interactive;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * Binds one pooled browser session to each worker thread.
+ * Page objects talk to {@link #threadBoundDriver()}, which routes every call
+ * to the session of the thread making it, so tests running in parallel never share a browser.
+ */
+public final class DriverContext {
+    private static final ThreadLocal<DriverKey> KEY = ThreadLocal.withInitial(DriverKey::fromSystemProperties);
+    private static final ThreadLocal<WebDriver> SESSION = new ThreadLocal<>();
+    private static final WebDriver THREAD_BOUND = (WebDriver) Proxy.newProxyInstance(
+            DriverContext.class.getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+                    Interactive.class, HasCapabilities.class, WrapsDriver.class},
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> "DriverContext[" + KEY.get() + "]";
+                    };
+                }
+                WebDriver driver = getDriver();
+                if (method.getDeclaringClass() == WrapsDriver.class) {
+                    return driver;
+                }
+                if (!method.getDeclaringClass().isInstance(driver)) {
+                    throw new UnsupportedCommandException(method.getName() + " is not supported by " + KEY.get());
+                }
+                try {
+                    return method.invoke(driver, args);
+                } catch (InvocationTargetException exception) {
+                    throw exception.getCause();
+                }
+            });
+
+    private DriverContext() {
+    }
+
+    /**
+     * Driver that always talks to the session of the calling thread.
+     * Session is taken from {@link DriverPool} on first use.
+     */
+    public static WebDriver threadBoundDriver() {
+        return THREAD_BOUND;
+    }
+
+    /**
+     * Get session bound to current thread, acquiring one from pool if needed
+     *
+     * @return driver owned by current thread
+     */
+    public static WebDriver getDriver() {
+        WebDriver driver = SESSION.get();
+        if (driver == null) {
+            driver = DriverPool.getInstance().acquire(KEY.get());
+            SESSION.set(driver);
+        }
+        return driver;
+    }
+
+    /**
+     * Get session bound to current thread without acquiring one
+     *
+     * @return driver owned by current thread, empty if thread has not used the driver yet
+     */
+    public static Optional<WebDriver> currentDriver() {
+        return Optional.ofNullable(SESSION.get());
+    }
+
+    /**
+     * Choose browser for sessions of current thread. Has to be called before first use of the driver.
+     *
+     * @param key defines browser type and headless mode
+     */
+    public static void bind(DriverKey key) {
+        if (SESSION.get() != null && !KEY.get().equals(key)) {
+            throw new IllegalStateException("Thread already owns " + KEY.get() + " session");
+        }
+        KEY.set(key);
+    }
+
+    /**
+     * Return session of current thread back to pool
+     */
+    public static void release() {
+        WebDriver driver = SESSION.get();
+        SESSION.remove();
+        KEY.remove();
+        if (driver != null) {
+            DriverPool.getInstance().release(driver);
+        }
+    }
+}
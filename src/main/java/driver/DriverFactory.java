@@ -0,0 +1,126 @@
+package driver;
+
+import org.htmlunit.BrowserVersion;
+import org.htmlunit.StringWebResponse;
+import org.htmlunit.WebClient;
+import org.htmlunit.WebRequest;
+import org.htmlunit.WebResponse;
+import org.htmlunit.util.WebConnectionWrapper;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.io.IOException;
+import java.util.Map;
+
+public final class DriverFactory {
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Launch new browser session
+     *
+     * @param key defines browser type and headless mode
+     * @return freshly started driver
+     */
+    public static WebDriver create(DriverKey key) {
+        return create(key, LoadProfile.forBrowser(key.browser()));
+    }
+
+    /**
+     * Launch new browser session
+     *
+     * @param key     defines browser type and headless mode
+     * @param profile defines page load strategy and blocked resources
+     * @return freshly started driver
+     */
+    public static WebDriver create(DriverKey key, LoadProfile profile) {
+        WebDriver driver;
+        switch (key.browser()) {
+            case "chrome" -> {
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.setPageLoadStrategy(profile.strategy());
+                if (key.headless()) {
+                    chromeOptions.addArguments("--headless=new");
+                }
+                driver = blockResources(new ChromeDriver(chromeOptions), profile);
+            }
+            case "edge" -> {
+                EdgeOptions edgeOptions = new EdgeOptions();
+                edgeOptions.setPageLoadStrategy(profile.strategy());
+                if (key.headless()) {
+                    edgeOptions.addArguments("--headless=new");
+                }
+                driver = blockResources(new EdgeDriver(edgeOptions), profile);
+            }
+            case "firefox" -> {
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.setPageLoadStrategy(profile.strategy());
+                if (key.headless()) {
+                    firefoxOptions.addArguments("--headless=new");
+                }
+                if (profile.blocksResources()) {
+                    // gecko has no URL blocking, turn off downloading of images, web fonts and media instead
+                    firefoxOptions.addPreference("permissions.default.image", 2);
+                    firefoxOptions.addPreference("browser.display.use_document_fonts", 0);
+                    firefoxOptions.addPreference("media.autoplay.default", 5);
+                    firefoxOptions.addPreference("media.preload.default", 0);
+                }
+                driver = new FirefoxDriver(firefoxOptions);
+            }
+            case "htmlunit" -> driver = createHtmlUnitDriver(profile);
+            default -> throw new IllegalArgumentException("Unsupported browser: " + key.browser());
+        }
+        driver.manage().window().maximize();
+        return driver;
+    }
+
+    /**
+     * Tell browser over DevTools protocol not to download resources matching blocked patterns
+     *
+     * @param driver  defines chromium based session
+     * @param profile defines blocked URL patterns
+     */
+    private static WebDriver blockResources(ChromiumDriver driver, LoadProfile profile) {
+        if (profile.blocksResources()) {
+            driver.executeCdpCommand("Network.enable", Map.of());
+            driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", profile.blockedUrls()));
+        }
+        return driver;
+    }
+
+    /**
+     * In-JVM browser without rendering, always headless.
+     * Like real browsers it reports errors of page scripts instead of failing the command that triggered them.
+     * Page load is always complete when command returns, blocked resources are answered with empty response.
+     *
+     * @param profile defines blocked resources
+     */
+    private static WebDriver createHtmlUnitDriver(LoadProfile profile) {
+        return new HtmlUnitDriver(BrowserVersion.BEST_SUPPORTED, true) {
+            @Override
+            protected WebClient modifyWebClient(WebClient client) {
+                client.getOptions().setThrowExceptionOnScriptError(false);
+                if (profile.blocksResources()) {
+                    new WebConnectionWrapper(client) {
+                        @Override
+                        public WebResponse getResponse(WebRequest request) throws IOException {
+                            if (profile.blocks(request.getUrl().toString())) {
+                                return new StringWebResponse("", request.getUrl());
+                            }
+                            return super.getResponse(request);
+                        }
+                    };
+                }
+                return client;
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package driver;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Identifies a kind of browser session the pool can hand out
+ *
+ * @param browser  defines browser type, e.g. 'chrome', 'edge' or 'firefox'
+ * @param headless defines whether browser runs without window
+ */
+public record DriverKey(String browser, boolean headless) {
+
+    /**
+     * Build key from '-Dbrowser' and '-Dheadless' run variables
+     *
+     * @return key for browser configured for current run
+     */
+    public static DriverKey fromSystemProperties() {
+        String browserType = System.getProperty("browser", "chrome");
+        boolean headless = Boolean.parseBoolean(System.getProperty("headless", "false"));
+        return new DriverKey(browserType, headless);
+    }
+
+    /**
+     * Parse key written as 'browser' or 'browser:headless', e.g. 'firefox:true'
+     *
+     * @param value defines browser type optionally followed by headless flag
+     */
+    public static DriverKey parse(String value) {
+        String[] parts = value.trim().split(":", 2);
+        return new DriverKey(parts[0].trim(), parts.length > 1 && Boolean.parseBoolean(parts[1].trim()));
+    }
+
+    /**
+     * Build keys from '-Dmatrix' run variable, e.g. '-Dmatrix=chrome:true,firefox:true,edge:false'
+     *
+     * @return browser combinations of matrix run, empty if matrix mode is off
+     */
+    public static List<DriverKey> matrixFromSystemProperties() {
+        return Arrays.stream(System.getProperty("matrix", "").split(","))
+                .filter(value -> !value.isBlank())
+                .map(DriverKey::parse)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return browser + (headless ? " (headless)" : "");
+    }
+}
@@ -0,0 +1,191 @@
+package driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps browser sessions alive between test classes.
+ * Sessions are handed out by {@link DriverKey}, cleaned up when released
+ * and quit only when JVM shuts down. Sessions can be launched in background ahead of time
+ * with {@link #prewarm(DriverKey, int, String)}.
+ */
+public final class DriverPool {
+    private static final DriverPool INSTANCE = new DriverPool();
+
+    private final Map<DriverKey, Deque<WebDriver>> idle = new ConcurrentHashMap<>();
+    private final Map<DriverKey, Queue<CompletableFuture<WebDriver>>> warming = new ConcurrentHashMap<>();
+    private final Map<WebDriver, DriverKey> owners = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final ExecutorService launcher = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "driver-prewarm");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private DriverPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::quitAll, "driver-pool-shutdown"));
+    }
+
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start launching sessions in background, so they are ready by the time tests need them
+     *
+     * @param key   defines browser type and headless mode
+     * @param count defines how many sessions to launch
+     * @param url   defines page each session opens after launch, null to stay on blank page
+     */
+    public void prewarm(DriverKey key, int count, String url) {
+        Queue<CompletableFuture<WebDriver>> launches = warming.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+        for (int i = 0; i < count; i++) {
+            launches.add(CompletableFuture.supplyAsync(() -> {
+                WebDriver driver = launch(key);
+                if (url != null) {
+                    driver.get(url);
+                }
+                return driver;
+            }, launcher));
+        }
+    }
+
+    /**
+     * Take warm session from pool. If there is no healthy idle session, wait for session launched by
+     * {@link #prewarm(DriverKey, int, String)} or launch new one.
+     *
+     * @param key defines browser type and headless mode
+     * @return driver leased to caller until {@link #release(WebDriver)}
+     */
+    public WebDriver acquire(DriverKey key) {
+        Deque<WebDriver> sessions = idle.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+        WebDriver driver;
+        while ((driver = sessions.pollFirst()) != null) {
+            if (isHealthy(driver)) {
+                return driver;
+            }
+            discard(driver);
+        }
+        Queue<CompletableFuture<WebDriver>> launches = warming.getOrDefault(key, new ConcurrentLinkedQueue<>());
+        CompletableFuture<WebDriver> launch;
+        while ((launch = launches.poll()) != null) {
+            try {
+                return launch.join();
+            } catch (CompletionException failedLaunch) {
+                // launch in background failed, the error is reported by the launch below
+            }
+        }
+        return launch(key);
+    }
+
+    /**
+     * Return session to pool. Session is reset so next class starts from blank page,
+     * sessions that can not be reset are quit.
+     *
+     * @param driver defines session previously taken with {@link #acquire(DriverKey)}
+     */
+    public void release(WebDriver driver) {
+        DriverKey key = owners.get(driver);
+        if (key == null) {
+            throw new IllegalArgumentException("Driver was not acquired from pool");
+        }
+        if (reset(driver)) {
+            idle.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>()).offerFirst(driver);
+        } else {
+            discard(driver);
+        }
+    }
+
+    /**
+     * Quit session and forget about it, e.g. when browser crashed
+     *
+     * @param driver defines session to be dropped
+     */
+    public void discard(WebDriver driver) {
+        owners.remove(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // session is already gone
+        }
+    }
+
+    /**
+     * Check session still responds
+     *
+     * @param driver defines session to check
+     */
+    public boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Bring session to the state of freshly started browser:
+     * no alerts, single window, no cookies and storage, blank page
+     *
+     * @param driver defines session to reset
+     * @return true if session was reset and can be reused
+     */
+    private boolean reset(WebDriver driver) {
+        try {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException ignored) {
+                // nothing to dismiss
+            }
+            Set<String> handles = driver.getWindowHandles();
+            String main = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(main)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(main);
+            driver.manage().deleteAllCookies();
+            if (driver instanceof JavascriptExecutor jse) {
+                jse.executeScript("try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException exception) {
+            return false;
+        }
+    }
+
+    private WebDriver launch(DriverKey key) {
+        WebDriver driver = DriverFactory.create(key);
+        owners.put(driver, key);
+        return driver;
+    }
+
+    private void quitAll() {
+        List<WebDriver> sessions;
+        synchronized (owners) {
+            sessions = new ArrayList<>(owners.keySet());
+        }
+        sessions.forEach(this::discard);
+        idle.clear();
+    }
+}
@@ -0,0 +1,118 @@
+package driver;
+
+import org.openqa.selenium.PageLoadStrategy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Defines when navigation returns and which resources browser does not download.
+ * Configured with '-DpageLoadStrategy' and '-DblockedResources' variables, each can be overridden
+ * for single browser with '-D&lt;browser&gt;.pageLoadStrategy' and '-D&lt;browser&gt;.blockedResources'.
+ * '-DfastLoad=true' (or '-D&lt;browser&gt;.fastLoad=true') switches defaults to eager load without images, fonts and media.
+ * <p>
+ * Blocked patterns are compiled once, as {@link #blocks(String)} runs for every request of the browser.
+ */
+public final class LoadProfile {
+    public static final List<String> STATIC_RESOURCES = List.of(
+            "*.jpg", "*.jpeg", "*.png", "*.gif", "*.webp", "*.svg", "*.ico",
+            "*.woff", "*.woff2", "*.ttf", "*.otf",
+            "*.mp4", "*.webm", "*.mp3", "*.ogg");
+
+    private final PageLoadStrategy strategy;
+    private final List<String> blockedUrls;
+    private final Pattern blocked;
+
+    /**
+     * @param strategy     defines when 'driver.get()' returns
+     * @param blockedUrls  defines URL patterns of resources that are not downloaded, '*' matches any characters
+     */
+    public LoadProfile(PageLoadStrategy strategy, List<String> blockedUrls) {
+        this.strategy = strategy;
+        this.blockedUrls = List.copyOf(blockedUrls);
+        this.blocked = toRegex(this.blockedUrls);
+    }
+
+    /**
+     * Build profile for browser from run variables
+     *
+     * @param browser defines browser type, e.g. 'chrome'
+     */
+    public static LoadProfile forBrowser(String browser) {
+        boolean fastLoad = Boolean.parseBoolean(property(browser, "fastLoad", "false"));
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(
+                property(browser, "pageLoadStrategy", fastLoad ? "eager" : "normal").toLowerCase());
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unsupported page load strategy: " + property(browser, "pageLoadStrategy", ""));
+        }
+        String blocked = property(browser, "blockedResources", fastLoad ? String.join(",", STATIC_RESOURCES) : "");
+        List<String> blockedUrls = Arrays.stream(blocked.split(","))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .toList();
+        return new LoadProfile(strategy, blockedUrls);
+    }
+
+    public PageLoadStrategy strategy() {
+        return strategy;
+    }
+
+    public List<String> blockedUrls() {
+        return blockedUrls;
+    }
+
+    public boolean blocksResources() {
+        return !blockedUrls.isEmpty();
+    }
+
+    /**
+     * Check resource matches one of blocked patterns
+     *
+     * @param url defines full URL of resource
+     */
+    public boolean blocks(String url) {
+        return blocked.matcher(url).matches();
+    }
+
+    /**
+     * One alternation of all patterns, so URL is checked in a single match
+     */
+    private static Pattern toRegex(List<String> patterns) {
+        StringBuilder regex = new StringBuilder();
+        for (String pattern : patterns) {
+            if (!regex.isEmpty()) {
+                regex.append('|');
+            }
+            StringBuilder alternative = new StringBuilder();
+            for (String part : pattern.split("\\*", -1)) {
+                if (!alternative.isEmpty()) {
+                    alternative.append(".*");
+                }
+                alternative.append(Pattern.quote(part));
+            }
+            regex.append("(?:").append(alternative).append(')');
+        }
+        return Pattern.compile(regex.isEmpty() ? "(?!)" : regex.toString());
+    }
+
+    private static String property(String browser, String name, String defaultValue) {
+        return System.getProperty(browser + "." + name, System.getProperty(name, defaultValue));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof LoadProfile profile && strategy == profile.strategy && blockedUrls.equals(profile.blockedUrls);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(strategy, blockedUrls);
+    }
+
+    @Override
+    public String toString() {
+        return "LoadProfile[strategy=" + strategy + ", blockedUrls=" + blockedUrls + "]";
+    }
+}
@@ -0,0 +1,29 @@
+package load;
+
+/**
+ * Outcome of one flow over the whole load run. Percentiles are within 1/32 of measured latencies,
+ * see {@link metrics.LatencyHistogram}.
+ *
+ * @param flow          defines name of the flow
+ * @param iterations    defines number of finished iterations, failed included
+ * @param errors        defines number of failed iterations
+ * @param perSecond     defines finished iterations per second of the run
+ * @param p50Micros     defines median latency of iteration
+ * @param p90Micros     defines 90th percentile of iteration latency
+ * @param p99Micros     defines 99th percentile of iteration latency
+ * @param maxMicros     defines the slowest iteration
+ */
+public record FlowStats(String flow, long iterations, long errors, double perSecond,
+                        long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+
+    public double errorRate() {
+        return iterations == 0 ? 0 : (double) errors / iterations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-16s %8d iterations %8.2f/s  errors %6.2f%%  p50 %7d ms  p90 %7d ms  p99 %7d ms  max %7d ms",
+                flow, iterations, perSecond, errorRate() * 100, p50Micros / 1000, p90Micros / 1000,
+                p99Micros / 1000, maxMicros / 1000);
+    }
+}
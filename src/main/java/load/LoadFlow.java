@@ -0,0 +1,53 @@
+package load;
+
+import pages.MainPage;
+
+import java.util.List;
+
+/**
+ * User journeys on main page played by synthetic users.
+ * Flow fails with {@link AssertionError} when page does not react the way the test suite expects.
+ */
+public enum LoadFlow {
+    FILL_FORM {
+        @Override
+        void run(MainPage page, long iteration) {
+            String name = "User " + iteration;
+            String email = "user" + iteration + "@test.mail";
+            String phone = "+99112345678";
+            page.inputUserDetails(name, email, phone);
+            page.handleAlert();
+            check(page.checkUserDataInTable(name, email, phone), "user data is not saved in table");
+        }
+    },
+    CHOOSE_RADIO {
+        @Override
+        void run(MainPage page, long iteration) {
+            int option = (int) (iteration % 3) + 1;
+            check(List.of(option).equals(page.checkRadioOption("radio" + option)), "radio option " + option + " is not chosen");
+        }
+    },
+    CHOOSE_DROPDOWN {
+        @Override
+        void run(MainPage page, long iteration) {
+            // option 1 is preselected, choosing it again fires no change event
+            int option = (int) (iteration % 2) + 2;
+            check(List.of(option).equals(page.checkDropdownOption(String.valueOf(option))),
+                    "dropdown option " + option + " is not chosen");
+        }
+    };
+
+    /**
+     * Play the flow once on page restored to its initial state
+     *
+     * @param page      defines page of the synthetic user
+     * @param iteration defines number of iteration, used to vary input
+     */
+    abstract void run(MainPage page, long iteration);
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
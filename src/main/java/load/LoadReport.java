@@ -0,0 +1,21 @@
+package load;
+
+import java.util.List;
+
+/**
+ * Outcome of a load run
+ *
+ * @param flows    defines statistics of every flow, iterations of stopped users included
+ * @param failures defines errors that stopped synthetic users before the end of the run
+ */
+public record LoadReport(List<FlowStats> flows, List<Throwable> failures) {
+
+    public LoadReport {
+        flows = List.copyOf(flows);
+        failures = List.copyOf(failures);
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
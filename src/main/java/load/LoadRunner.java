@@ -0,0 +1,218 @@
+package load;
+
+import driver.DriverKey;
+import driver.DriverPool;
+import metrics.LatencyHistogram;
+import metrics.LatencyRecorder;
+import metrics.PageTimings;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import pages.MainPage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static constants.constant.Urls.MAIN_PAGE;
+
+/**
+ * Plays {@link LoadFlow} journeys with N concurrent synthetic users, each driving its own headless session.
+ * Users run on virtual threads when JVM supports them. Run is limited by duration or by iterations per user.
+ * <p>
+ * Configured with '-Dbrowser', '-Dload.users', '-Dload.duration' (seconds), '-Dload.iterations' (per user,
+ * overrides duration), '-Dload.flows' (comma separated, all by default) and '-Dload.url' variables.
+ * Report is printed and written to 'target/load-report.json'.
+ */
+public final class LoadRunner {
+    private static final String FLOW = "flow";
+    private static final String FAILED = "failed";
+
+    private final DriverKey key;
+    private final int users;
+    private final Duration duration;
+    private final long iterations;
+    private final List<LoadFlow> flows;
+    private final String url;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    /**
+     * @param key        defines browser of synthetic users
+     * @param users      defines number of concurrent users
+     * @param duration   defines how long users keep playing flows
+     * @param iterations defines how many flows each user plays, 0 to run for duration
+     * @param flows      defines flows users play in turn
+     * @param url        defines page users start on
+     */
+    public LoadRunner(DriverKey key, int users, Duration duration, long iterations, List<LoadFlow> flows, String url) {
+        this.key = key;
+        this.users = users;
+        this.duration = duration;
+        this.iterations = iterations;
+        this.flows = List.copyOf(flows);
+        this.url = url;
+    }
+
+    public static void main(String[] args) {
+        String flowNames = System.getProperty("load.flows", "");
+        List<LoadFlow> flows = flowNames.isBlank() ? List.of(LoadFlow.values()) : Arrays.stream(flowNames.split(","))
+                .map(name -> LoadFlow.valueOf(name.trim().toUpperCase()))
+                .toList();
+        LoadRunner runner = new LoadRunner(
+                new DriverKey(System.getProperty("browser", "chrome"), true),
+                Integer.parseInt(System.getProperty("load.users", "4")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("load.duration", "60"))),
+                Long.parseLong(System.getProperty("load.iterations", "0")),
+                flows,
+                System.getProperty("load.url", MAIN_PAGE));
+        LoadReport report = runner.run();
+        report.flows().forEach(System.out::println);
+        report.failures().forEach(failure -> failure.printStackTrace(System.err));
+        writeReport(report.flows(), Path.of("target", "load-report.json"));
+        if (PageTimings.isEnabled()) {
+            PageTimings.export(Path.of("target"), "page-timings");
+        }
+        System.exit(report.isSuccessful() ? 0 : 1);
+    }
+
+    /**
+     * Run the load and wait until every user finished. User stopped by an error does not stop the others,
+     * the error is reported along with statistics of the whole run.
+     *
+     * @return statistics of every flow and errors that stopped users
+     */
+    public LoadReport run() {
+        DriverPool.getInstance().prewarm(key, users, url);
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        List<Future<?>> running = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        ExecutorService executor = newUserExecutor();
+        try {
+            for (int user = 0; user < users; user++) {
+                int offset = user;
+                running.add(executor.submit(() -> playUser(offset, deadline)));
+            }
+            for (Future<?> user : running) {
+                try {
+                    user.get();
+                } catch (ExecutionException userFailed) {
+                    failures.add(userFailed.getCause());
+                }
+            }
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        double seconds = Math.max(1, System.nanoTime() - started) / 1e9;
+        return new LoadReport(flows.stream().map(flow -> stats(flow, seconds)).toList(), failures);
+    }
+
+    /**
+     * Play flows in turn until deadline or iteration limit. Page is restored before the timer of the flow starts,
+     * an error while restoring is not a flow sample. Session is returned to pool when user finishes
+     * and quit when user stops because of an error, so it can not leak into later runs.
+     */
+    private void playUser(int offset, long deadline) {
+        DriverPool pool = DriverPool.getInstance();
+        WebDriver driver = pool.acquire(key);
+        boolean finished = false;
+        try {
+            MainPage page = start(driver);
+            for (long current = 0; iterations > 0 ? current < iterations : System.nanoTime() < deadline; current++) {
+                LoadFlow flow = flows.get((int) ((current + offset) % flows.size()));
+                boolean restored = false;
+                long flowStarted = 0;
+                try {
+                    page.restoreCheckpoint();
+                    restored = true;
+                    flowStarted = System.nanoTime();
+                    flow.run(page, current);
+                    recorder.record(FLOW, flow.name(), System.nanoTime() - flowStarted);
+                } catch (WebDriverException | AssertionError failure) {
+                    if (restored) {
+                        long elapsed = System.nanoTime() - flowStarted;
+                        recorder.record(FLOW, flow.name(), elapsed);
+                        recorder.record(FAILED, flow.name(), elapsed);
+                    }
+                    if (!pool.isHealthy(driver)) {
+                        WebDriver broken = driver;
+                        driver = null;
+                        pool.discard(broken);
+                        driver = pool.acquire(key);
+                        page = start(driver);
+                    }
+                }
+            }
+            finished = true;
+        } finally {
+            if (driver != null) {
+                if (finished) {
+                    pool.release(driver);
+                } else {
+                    pool.discard(driver);
+                }
+            }
+        }
+    }
+
+    private MainPage start(WebDriver driver) {
+        MainPage page = new MainPage(driver);
+        if (!page.isOpened(url)) {
+            page.open(url);
+        }
+        page.captureCheckpoint();
+        return page;
+    }
+
+    private FlowStats stats(LoadFlow flow, double seconds) {
+        LatencyHistogram all = recorder.histogram(FLOW, flow.name());
+        return new FlowStats(flow.name(), all.count(), recorder.histogram(FAILED, flow.name()).count(),
+                all.count() / seconds, all.percentileMicros(50), all.percentileMicros(90),
+                all.percentileMicros(99), all.maxMicros());
+    }
+
+    /**
+     * Virtual thread per user on JVMs that have them, platform thread per user otherwise
+     */
+    private ExecutorService newUserExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException notSupported) {
+            return Executors.newFixedThreadPool(users);
+        }
+    }
+
+    private static void writeReport(List<FlowStats> report, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, new Json().toJson(report.stream().map(stats -> {
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("flow", stats.flow());
+                values.put("iterations", stats.iterations());
+                values.put("errors", stats.errors());
+                values.put("errorRate", stats.errorRate());
+                values.put("perSecond", stats.perSecond());
+                values.put("p50Micros", stats.p50Micros());
+                values.put("p90Micros", stats.p90Micros());
+                values.put("p99Micros", stats.p99Micros());
+                values.put("maxMicros", stats.maxMicros());
+                return values;
+            }).toList()));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package metrics;
+
+import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Collects test results and containers and writes them in batches on a background thread,
+ * so test threads do not wait for JSON serialization and file system.
+ * Attachments are written right away, their streams belong to the caller.
+ * Everything left is written by {@link #flush()} and when JVM shuts down.
+ */
+public class BufferedResultsWriter implements AllureResultsWriter {
+    private final AllureResultsWriter delegate;
+    private final int batchSize;
+    private final List<Runnable> buffer = new ArrayList<>();
+    private final List<Future<?>> pending = new ArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "allure-results-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param delegate  defines writer results are passed to
+     * @param batchSize defines how many results are collected before they are handed to background thread
+     */
+    public BufferedResultsWriter(AllureResultsWriter delegate, int batchSize) {
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "allure-results-flush"));
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        buffer(() -> delegate.write(testResult));
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        buffer(() -> delegate.write(testResultContainer));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        delegate.write(source, attachment);
+    }
+
+    /**
+     * Write buffered results and wait until everything handed over so far is written
+     *
+     * @throws AllureResultsWriteException if some results could not be written, after the rest is written
+     */
+    public void flush() {
+        List<Future<?>> written;
+        synchronized (this) {
+            handOver();
+            written = new ArrayList<>(pending);
+            pending.clear();
+        }
+        AllureResultsWriteException failure = null;
+        for (Future<?> batch : written) {
+            try {
+                batch.get();
+            } catch (ExecutionException exception) {
+                if (failure == null) {
+                    failure = new AllureResultsWriteException("Unable to write Allure results", exception.getCause());
+                } else {
+                    failure.addSuppressed(exception.getCause());
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private synchronized void buffer(Runnable write) {
+        buffer.add(write);
+        if (buffer.size() >= batchSize) {
+            handOver();
+        }
+    }
+
+    private void handOver() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<Runnable> batch = new ArrayList<>(buffer);
+        buffer.clear();
+        pending.removeIf(Future::isDone);
+        pending.add(executor.submit(() -> batch.forEach(Runnable::run)));
+    }
+}
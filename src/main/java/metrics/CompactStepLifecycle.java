@@ -0,0 +1,186 @@
+package metrics;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.aspects.StepsAspects;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.PropertiesUtils;
+
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Allure lifecycle that keeps reports of large suites small.
+ * Step repeated right after itself under the same parent is folded into the first one, which gets
+ * the number of repeats in its name, parameters that differ between repeats are dropped.
+ * Steps nested deeper than max depth are not recorded, their time is part of the recorded parent.
+ * Folded and dropped steps create no step results and do not reach step listeners.
+ * Turned on with '-Dsteps=compact' variable, see {@link #installFromSystemProperties()}.
+ */
+public class CompactStepLifecycle extends AllureLifecycle {
+    private static volatile boolean installed;
+
+    private final int maxDepth;
+    private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Frame> root = new ThreadLocal<>();
+
+    /**
+     * @param writer   defines where results are written
+     * @param maxDepth defines how deep steps are recorded, 0 to record all of them
+     */
+    public CompactStepLifecycle(AllureResultsWriter writer, int maxDepth) {
+        super(writer);
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Replace Allure lifecycle according to '-Dsteps', '-Dsteps.maxDepth' and '-Dsteps.buffer' variables.
+     * Has to be called before Allure is used for the first time, later calls do nothing.
+     */
+    public static synchronized void installFromSystemProperties() {
+        if (installed || !"compact".equalsIgnoreCase(System.getProperty("steps", "full"))) {
+            return;
+        }
+        AllureResultsWriter writer = new FileSystemResultsWriter(Paths.get(PropertiesUtils.loadAllureProperties()
+                .getProperty("allure.results.directory", "allure-results")));
+        int buffer = Integer.getInteger("steps.buffer", 100);
+        if (buffer > 0) {
+            writer = new BufferedResultsWriter(writer, buffer);
+        }
+        CompactStepLifecycle lifecycle = new CompactStepLifecycle(writer, Integer.getInteger("steps.maxDepth", 3));
+        Allure.setLifecycle(lifecycle);
+        StepsAspects.setLifecycle(lifecycle);
+        installed = true;
+    }
+
+    @Override
+    public void startStep(String uuid, StepResult result) {
+        if (getCurrentTestCaseOrStep().isEmpty()) {
+            super.startStep(uuid, result);
+            return;
+        }
+        Deque<Frame> stack = frames.get();
+        Frame parent = stack.isEmpty() ? rootFrame() : stack.peek();
+        if (parent.dropped() || (maxDepth > 0 && stack.size() >= maxDepth)) {
+            stack.push(new Frame(uuid, null, null));
+        } else if (parent.lastChild != null && Objects.equals(parent.lastChildName, result.getName())) {
+            parent.lastChild.getParameters().removeIf(parameter -> result.getParameters().stream()
+                    .noneMatch(other -> sameParameter(parameter, other)));
+            parent.repeats++;
+            parent.lastChild.setName(parent.lastChildName + " [x" + parent.repeats + "]");
+            stack.push(new Frame(uuid, null, parent.lastChild));
+        } else {
+            parent.lastChild = result;
+            parent.lastChildName = result.getName();
+            parent.repeats = 1;
+            stack.push(new Frame(uuid, result, null));
+            super.startStep(uuid, result);
+        }
+    }
+
+    @Override
+    public void updateStep(Consumer<StepResult> update) {
+        Frame frame = frames.get().peek();
+        if (frame != null) {
+            updateStep(frame.uuid, update);
+        } else {
+            super.updateStep(update);
+        }
+    }
+
+    @Override
+    public void updateStep(String uuid, Consumer<StepResult> update) {
+        Frame frame = find(uuid);
+        if (frame == null || frame.recorded != null) {
+            super.updateStep(uuid, update);
+            return;
+        }
+        StepResult scratch = new StepResult();
+        update.accept(scratch);
+        if (frame.folded != null && (scratch.getStatus() == Status.FAILED || scratch.getStatus() == Status.BROKEN)) {
+            frame.folded.setStatus(scratch.getStatus());
+            frame.folded.setStatusDetails(scratch.getStatusDetails());
+        }
+    }
+
+    @Override
+    public void stopStep() {
+        Frame frame = frames.get().peek();
+        if (frame != null) {
+            stopStep(frame.uuid);
+        } else {
+            super.stopStep();
+        }
+    }
+
+    @Override
+    public void stopStep(String uuid) {
+        Frame frame = find(uuid);
+        if (frame != null) {
+            frames.get().remove(frame);
+            if (frame.recorded == null) {
+                if (frame.folded != null) {
+                    frame.folded.setStop(System.currentTimeMillis());
+                }
+                return;
+            }
+        }
+        super.stopStep(uuid);
+    }
+
+    /**
+     * Frame of steps started right under test case or fixture, reset when they change
+     */
+    private Frame rootFrame() {
+        String parent = getCurrentTestCaseOrStep().orElse(null);
+        Frame frame = root.get();
+        if (frame == null || !Objects.equals(frame.uuid, parent)) {
+            frame = new Frame(parent, null, null);
+            frame.root = true;
+            root.set(frame);
+        }
+        return frame;
+    }
+
+    private Frame find(String uuid) {
+        for (Iterator<Frame> iterator = frames.get().iterator(); iterator.hasNext(); ) {
+            Frame frame = iterator.next();
+            if (frame.uuid.equals(uuid)) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    private static boolean sameParameter(Parameter parameter, Parameter other) {
+        return Objects.equals(parameter.getName(), other.getName()) && Objects.equals(parameter.getValue(), other.getValue());
+    }
+
+    private static final class Frame {
+        private final String uuid;
+        private final StepResult recorded;
+        private final StepResult folded;
+        private boolean root;
+        private StepResult lastChild;
+        private String lastChildName;
+        private int repeats;
+
+        private Frame(String uuid, StepResult recorded, StepResult folded) {
+            this.uuid = uuid;
+            this.recorded = recorded;
+            this.folded = folded;
+        }
+
+        private boolean dropped() {
+            return !root && recorded == null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram of microseconds.
+ * Every power of two is split into 16 linear sub-buckets, so values below 16 microseconds are kept exactly
+ * and larger ones within 1/32 of their value. Recording is a few atomic increments.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Add one measurement
+     *
+     * @param nanos defines measured duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        buckets.incrementAndGet(bucket(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long meanMicros() {
+        long measurements = count();
+        return measurements == 0 ? 0 : totalMicros.sum() / measurements;
+    }
+
+    public long maxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Get value below which given share of measurements lies
+     *
+     * @param percentile defines percentile from 0 to 100
+     * @return latency in microseconds, middle of the sub-bucket holding the percentile
+     */
+    public long percentileMicros(double percentile) {
+        long measurements = count();
+        if (measurements == 0) {
+            return 0;
+        }
+        if (percentile >= 100) {
+            return maxMicros();
+        }
+        long rank = Math.max(1, (long) Math.ceil(measurements * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                return Math.min(middle(bucket), maxMicros());
+            }
+        }
+        return maxMicros();
+    }
+
+    /**
+     * Index of sub-bucket holding value: values below 16 have own buckets,
+     * larger ones are grouped by power of two and then by their next four bits
+     */
+    static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BITS;
+        int sub = (int) (micros >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Middle value of sub-bucket
+     */
+    static long middle(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) / 2;
+    }
+}
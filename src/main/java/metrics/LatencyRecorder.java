@@ -0,0 +1,99 @@
+package metrics;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency histograms grouped by dimension (e.g. 'command', 'locator', 'step') and key
+ */
+public final class LatencyRecorder {
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final Map<String, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Add one measurement
+     *
+     * @param dimension defines what measurements are grouped by
+     * @param key       defines group inside dimension
+     * @param nanos     defines measured duration in nanoseconds
+     */
+    public void record(String dimension, String key, long nanos) {
+        histogram(dimension, key).record(nanos);
+    }
+
+    /**
+     * Histogram of one group, created empty if nothing was recorded yet
+     *
+     * @param dimension defines what measurements are grouped by
+     * @param key       defines group inside dimension
+     */
+    public LatencyHistogram histogram(String dimension, String key) {
+        return histograms.computeIfAbsent(dimension, d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    /**
+     * Summary of all histograms: count, mean, percentiles and max in microseconds
+     */
+    public Map<String, Map<String, Map<String, Long>>> summary() {
+        Map<String, Map<String, Map<String, Long>>> summary = new TreeMap<>();
+        histograms.forEach((dimension, keys) -> {
+            Map<String, Map<String, Long>> dimensionSummary = new TreeMap<>();
+            keys.forEach((key, histogram) -> {
+                Map<String, Long> values = new LinkedHashMap<>();
+                values.put("count", histogram.count());
+                values.put("meanMicros", histogram.meanMicros());
+                for (double percentile : PERCENTILES) {
+                    values.put("p" + (int) percentile + "Micros", histogram.percentileMicros(percentile));
+                }
+                values.put("maxMicros", histogram.maxMicros());
+                dimensionSummary.put(key, values);
+            });
+            summary.put(dimension, dimensionSummary);
+        });
+        return summary;
+    }
+
+    public String toJson() {
+        return new Json().toJson(summary());
+    }
+
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder("dimension,key,count,mean_us,p50_us,p90_us,p99_us,max_us\n");
+        summary().forEach((dimension, keys) -> keys.forEach((key, values) -> {
+            csv.append(dimension).append(',').append('"').append(key.replace("\"", "\"\"")).append('"');
+            values.values().forEach(value -> csv.append(',').append(value));
+            csv.append('\n');
+        }));
+        return csv.toString();
+    }
+
+    /**
+     * Write summary as 'name.json' and 'name.csv'
+     *
+     * @param directory defines where files are written
+     * @param name      defines file name without extension
+     */
+    public void export(Path directory, String name) {
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(name + ".json"), toJson());
+            Files.writeString(directory.resolve(name + ".csv"), toCsv());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load metrics of one navigation, times are milliseconds since navigation start, sizes are bytes.
+ * Metrics browser does not report are absent.
+ *
+ * @param url     defines URL of the page
+ * @param time    defines when metrics were taken
+ * @param metrics defines metric values by name, see {@link PageTimings#METRICS}
+ */
+public record PageTiming(String url, Instant time, Map<String, Double> metrics) {
+
+    public PageTiming {
+        metrics = Collections.unmodifiableMap(new LinkedHashMap<>(metrics));
+    }
+
+    /**
+     * Name of the page without directories and query, e.g. 'testPageMain.html'
+     */
+    public String page() {
+        String path = url.replaceFirst("[?#].*$", "");
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("url", url);
+        map.put("time", time.toString());
+        map.putAll(metrics);
+        return map;
+    }
+}
@@ -0,0 +1,261 @@
+package metrics;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.DoubleSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects Navigation Timing, Resource Timing and paint metrics of opened pages and checks them against budgets.
+ * Turned on with '-DpageTimings=true' variable, test runs of the project turn it on by default. Budget of a metric is set for all pages with '-Dbudget.&lt;metric&gt;'
+ * and for single page with '-Dbudget.&lt;page&gt;.&lt;metric&gt;', e.g. '-Dbudget.testPageMain.html.load=1500'.
+ */
+public final class PageTimings {
+    public static final List<String> METRICS = List.of("ttfb", "domInteractive", "domContentLoaded", "load",
+            "firstPaint", "firstContentfulPaint", "largestContentfulPaint",
+            "transferSize", "resources", "resourceTransferSize", "resourcesLoaded");
+
+    private static final String COLLECT_SCRIPT = """
+            var result = {};
+            var performance = window.performance;
+            if (!performance) {
+              return result;
+            }
+            var byType = function (type) {
+              return typeof performance.getEntriesByType === 'function' ? performance.getEntriesByType(type) : [];
+            };
+            var positive = function (value) {
+              return typeof value === 'number' && value > 0 ? value : null;
+            };
+            var navigation = byType('navigation')[0];
+            if (navigation) {
+              result.ttfb = positive(navigation.responseStart);
+              result.domInteractive = positive(navigation.domInteractive);
+              result.domContentLoaded = positive(navigation.domContentLoadedEventEnd);
+              result.load = positive(navigation.loadEventEnd);
+              result.transferSize = navigation.transferSize;
+            } else if (performance.timing) {
+              var timing = performance.timing;
+              var since = function (value) {
+                return value > 0 ? value - timing.navigationStart : null;
+              };
+              result.ttfb = since(timing.responseStart);
+              result.domInteractive = since(timing.domInteractive);
+              result.domContentLoaded = since(timing.domContentLoadedEventEnd);
+              result.load = since(timing.loadEventEnd);
+            }
+            byType('paint').forEach(function (entry) {
+              if (entry.name === 'first-paint') {
+                result.firstPaint = entry.startTime;
+              } else if (entry.name === 'first-contentful-paint') {
+                result.firstContentfulPaint = entry.startTime;
+              }
+            });
+            if (typeof PerformanceObserver === 'function' && PerformanceObserver.supportedEntryTypes
+                && PerformanceObserver.supportedEntryTypes.indexOf('largest-contentful-paint') >= 0) {
+              var observer = new PerformanceObserver(function () {});
+              observer.observe({type: 'largest-contentful-paint', buffered: true});
+              var candidates = observer.takeRecords();
+              observer.disconnect();
+              if (candidates.length > 0) {
+                result.largestContentfulPaint = candidates[candidates.length - 1].startTime;
+              }
+            }
+            var resources = byType('resource');
+            result.resources = resources.length;
+            result.resourceTransferSize = resources.reduce(function (sum, entry) {
+              return sum + (entry.transferSize || 0);
+            }, 0);
+            result.resourcesLoaded = resources.reduce(function (latest, entry) {
+              return Math.max(latest, entry.responseEnd);
+            }, 0);
+            return result;
+            """;
+    private static final Instant RUN = Instant.now();
+    private static final int LIMIT = Integer.getInteger("pageTimings.limit", 10_000);
+    private static final Deque<PageTiming> TIMINGS = new ArrayDeque<>();
+    private static final ThreadLocal<List<PageTiming>> TRACKED = new ThreadLocal<>();
+
+    private PageTimings() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("pageTimings", "false"));
+    }
+
+    /**
+     * Take metrics of current page from browser and keep them for the run report.
+     * Only the newest '-DpageTimings.limit' navigations (default 10000) are kept until {@link #export(Path, String)}.
+     *
+     * @param driver defines session the page is opened in
+     */
+    public static PageTiming collect(WebDriver driver) {
+        Map<?, ?> values = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(COLLECT_SCRIPT);
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (String metric : METRICS) {
+            if (values.get(metric) instanceof Number number) {
+                metrics.put(metric, number.doubleValue());
+            }
+        }
+        PageTiming timing = new PageTiming(driver.getCurrentUrl(), Instant.now(), metrics);
+        synchronized (TIMINGS) {
+            TIMINGS.addLast(timing);
+            if (TIMINGS.size() > LIMIT) {
+                TIMINGS.removeFirst();
+            }
+        }
+        List<PageTiming> tracked = TRACKED.get();
+        if (tracked != null) {
+            tracked.add(timing);
+        }
+        return timing;
+    }
+
+    /**
+     * Start remembering metrics collected on current thread, e.g. while test method runs
+     */
+    public static void track() {
+        TRACKED.set(new ArrayList<>());
+    }
+
+    /**
+     * Stop remembering metrics collected on current thread
+     *
+     * @return metrics collected since {@link #track()}, empty if it was not called
+     */
+    public static List<PageTiming> tracked() {
+        List<PageTiming> tracked = TRACKED.get();
+        TRACKED.remove();
+        return tracked == null ? List.of() : tracked;
+    }
+
+    /**
+     * Check metrics do not exceed budgets of the page
+     *
+     * @param timing defines metrics of one navigation
+     * @throws AssertionError listing every metric over its budget
+     */
+    public static void checkBudgets(PageTiming timing) {
+        List<String> exceeded = new ArrayList<>();
+        timing.metrics().forEach((metric, value) -> {
+            String budget = System.getProperty("budget." + timing.page() + "." + metric, System.getProperty("budget." + metric));
+            if (budget != null && value > Double.parseDouble(budget)) {
+                exceeded.add(metric + " " + Math.round(value) + " > " + budget);
+            }
+        });
+        if (!exceeded.isEmpty()) {
+            throw new AssertionError("Page " + timing.url() + " is over budget: " + String.join(", ", exceeded));
+        }
+    }
+
+    /**
+     * Metrics of navigations not exported yet
+     */
+    public static List<PageTiming> all() {
+        synchronized (TIMINGS) {
+            return List.copyOf(TIMINGS);
+        }
+    }
+
+    /**
+     * Mean and max of every metric per URL
+     */
+    public static Map<String, Map<String, Map<String, Double>>> summary(List<PageTiming> timings) {
+        Map<String, Map<String, DoubleSummaryStatistics>> statistics = new TreeMap<>();
+        for (PageTiming timing : timings) {
+            timing.metrics().forEach((metric, value) -> statistics
+                    .computeIfAbsent(timing.url(), url -> new LinkedHashMap<>())
+                    .computeIfAbsent(metric, m -> new DoubleSummaryStatistics())
+                    .accept(value));
+        }
+        Map<String, Map<String, Map<String, Double>>> summary = new TreeMap<>();
+        statistics.forEach((url, metrics) -> {
+            Map<String, Map<String, Double>> page = new LinkedHashMap<>();
+            metrics.forEach((metric, values) -> {
+                Map<String, Double> result = new LinkedHashMap<>();
+                result.put("count", (double) values.getCount());
+                result.put("mean", values.getAverage());
+                result.put("max", values.getMax());
+                page.put(metric, result);
+            });
+            summary.put(url, page);
+        });
+        return summary;
+    }
+
+    public static String toJson(List<PageTiming> timings) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("run", RUN.toString());
+        report.put("pages", summary(timings));
+        report.put("navigations", timings.stream().map(PageTiming::toMap).toList());
+        return new Json().toJson(report);
+    }
+
+    /**
+     * One row per navigation: run start, time, URL and every metric, empty when browser did not report it
+     *
+     * @param timings defines metrics of navigations
+     * @param header  defines whether header row is included
+     */
+    public static String toCsv(List<PageTiming> timings, boolean header) {
+        StringBuilder csv = new StringBuilder();
+        if (header) {
+            csv.append("run,time,url,").append(String.join(",", METRICS)).append('\n');
+        }
+        for (PageTiming timing : timings) {
+            csv.append(RUN).append(',').append(timing.time()).append(',')
+                    .append('"').append(timing.url().replace("\"", "\"\"")).append('"');
+            for (String metric : METRICS) {
+                Double value = timing.metrics().get(metric);
+                csv.append(',').append(value == null ? "" : String.valueOf(Math.round(value * 10) / 10.0));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Write metrics collected so far as 'name.json' and 'name.csv' and append them to history file
+     * when one is set with '-DpageTimings.history', e.g. outside of 'target', so it survives 'mvn clean'.
+     * Exported metrics are removed, so every navigation reaches history once and memory is released.
+     *
+     * @param directory defines where files are written
+     * @param name      defines file name without extension
+     */
+    public static synchronized void export(Path directory, String name) {
+        List<PageTiming> timings;
+        synchronized (TIMINGS) {
+            timings = List.copyOf(TIMINGS);
+            TIMINGS.clear();
+        }
+        if (timings.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(name + ".json"), toJson(timings));
+            Files.writeString(directory.resolve(name + ".csv"), toCsv(timings, true));
+            String history = System.getProperty("pageTimings.history", "");
+            if (!history.isBlank()) {
+                Path file = Path.of(history);
+                Files.writeString(file, toCsv(timings, !Files.exists(file)), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
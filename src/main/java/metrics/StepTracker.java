@@ -0,0 +1,32 @@
+package metrics;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps track of Allure '@Step' currently running on each thread,
+ * so measurements can be attributed to the step that caused them
+ */
+public class StepTracker implements StepLifecycleListener {
+    private static final ThreadLocal<Deque<String>> STEPS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Name of innermost running step of current thread, null outside of steps
+     */
+    public static String currentStep() {
+        return STEPS.get().peek();
+    }
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        STEPS.get().push(result.getName());
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        STEPS.get().poll();
+    }
+}
@@ -1,17 +1,27 @@
 package pages;
 
+import driver.DriverContext;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
+import metrics.PageTiming;
+import metrics.PageTimings;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.json.Json;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.UnexpectedTagNameException;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,20 +29,283 @@ import static constants.constant.TimeoutVar.EXPLICIT_WAIT_10_SEC;
 
 @SuppressWarnings("unused")
 public class BasePage {
+    private static final String ELEMENT_STATES_SCRIPT = LocatorScripts.RESOLVE_ALL + LocatorScripts.IS_VISIBLE + """
+            return arguments[0].map(function (locator) {
+              var element = resolveAll(locator)[0];
+              if (!element) {
+                return null;
+              }
+              var visible = isVisible(element);
+              return [true, visible, !element.matches(':disabled'), visible ? element.innerText.trim() : ''];
+            });
+            """;
+    private static final String JS_CLICK_ALL_SCRIPT = LocatorScripts.RESOLVE_ALL + """
+            var elements = resolveAll(arguments[0]);
+            var outcomes = [];
+            for (var step = 0; step < elements.length; step++) {
+              var index = arguments[1] ? elements.length - 1 - step : step;
+              try {
+                elements[index].click();
+                outcomes.push([index, null]);
+              } catch (e) {
+                outcomes.push([index, String(e)]);
+                if (arguments[2]) {
+                  break;
+                }
+              }
+            }
+            return outcomes;
+            """;
+    private static final String READ_TABLE_SCRIPT = LocatorScripts.RESOLVE_ALL + """
+            var table = resolveAll(arguments[0])[0];
+            if (!table) {
+              return null;
+            }
+            var texts = function (row) {
+              return Array.prototype.map.call(row.cells, function (cell) { return cell.innerText.trim(); });
+            };
+            var headers = [];
+            if (table.tHead && table.tHead.rows.length > 0) {
+              headers = texts(table.tHead.rows[table.tHead.rows.length - 1]);
+            }
+            var rows = [];
+            for (var b = 0; b < table.tBodies.length; b++) {
+              for (var r = 0; r < table.tBodies[b].rows.length; r++) {
+                rows.push(texts(table.tBodies[b].rows[r]));
+              }
+            }
+            return [headers, rows];
+            """;
+    private static final String SNAPSHOT_SCRIPT = DomEpoch.CURRENT_EPOCH + """
+            var epoch = currentEpoch();
+            if (epoch === arguments[0]) {
+              return [epoch, null, null];
+            }
+            return [epoch, document.documentElement.outerHTML, document.baseURI];
+            """;
+    private static final String FILL_FORM_SCRIPT = LocatorScripts.RESOLVE_ALL + """
+            var fire = function (element, type, bubbles) {
+              element.dispatchEvent(new Event(type, {bubbles: bubbles}));
+            };
+            var focusChange = function (element, type) {
+              var fired = false;
+              var onEvent = function () { fired = true; };
+              element.addEventListener(type, onEvent);
+              element[type]();
+              element.removeEventListener(type, onEvent);
+              if (!fired) {
+                fire(element, type, false);
+              }
+            };
+            var fields = arguments[0].map(function (locator) { return resolveAll(locator)[0]; });
+            for (var f = 0; f < fields.length; f++) {
+              if (!fields[f]) {
+                return f;
+              }
+            }
+            for (var i = 0; i < fields.length; i++) {
+              var field = fields[i];
+              focusChange(field, 'focus');
+              var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(field), 'value');
+              if (setter && setter.set) {
+                setter.set.call(field, arguments[1][i]);
+              } else {
+                field.value = arguments[1][i];
+              }
+              fire(field, 'input', true);
+              fire(field, 'change', true);
+              focusChange(field, 'blur');
+            }
+            return -1;
+            """;
+    private static final String SELECT_SCRIPT = LocatorScripts.RESOLVE_ALL + """
+            var select = resolveAll(arguments[0])[0];
+            var action = arguments[1];
+            var by = arguments[2];
+            var targets = arguments[3];
+            if (!select) {
+              return ['missing'];
+            }
+            if (select.tagName.toLowerCase() !== 'select') {
+              return ['not-select', select.tagName.toLowerCase()];
+            }
+            var options = Array.prototype.slice.call(select.options);
+            var text = function (option) { return option.text.replace(/\\s+/g, ' ').trim(); };
+            var matches = function (option, target) {
+              return by === 'index' ? option.index === Number(target) : by === 'text' ? text(option) === target : option.value === target;
+            };
+            var before = options.map(function (option) { return option.selected; });
+            if (action !== 'read') {
+              if ((action === 'deselect' || action === 'deselectAll') && !select.multiple) {
+                return [action === 'deselectAll' ? 'single-all' : 'single'];
+              }
+              if (select.disabled) {
+                return ['select-disabled'];
+              }
+              if (action === 'deselectAll' || (action === 'set' && select.multiple)) {
+                options.forEach(function (option) { option.selected = false; });
+              }
+              if (action === 'set' && !select.multiple) {
+                targets = targets.slice(0, 1);
+              }
+              for (var t = 0; t < targets.length; t++) {
+                var matched = options.filter(function (option) { return matches(option, targets[t]); });
+                if (matched.length === 0) {
+                  options.forEach(function (option, i) { option.selected = before[i]; });
+                  return ['no-option', String(targets[t])];
+                }
+                if (!select.multiple) {
+                  matched = matched.slice(0, 1);
+                }
+                for (var m = 0; m < matched.length; m++) {
+                  if (action !== 'deselect' && matched[m].disabled) {
+                    options.forEach(function (option, i) { option.selected = before[i]; });
+                    return ['disabled', String(targets[t])];
+                  }
+                  matched[m].selected = action !== 'deselect';
+                }
+              }
+              var changed = options.some(function (option, i) { return option.selected !== before[i]; });
+              if (changed) {
+                select.dispatchEvent(new Event('input', {bubbles: true}));
+                select.dispatchEvent(new Event('change', {bubbles: true}));
+              }
+            }
+            return ['ok', select.multiple,
+                options.map(function (option) { return option.value; }),
+                options.map(text),
+                options.filter(function (option) { return option.selected; }).map(function (option) { return option.index; })];
+            """;
+    private static final String EXTRACT_ALL_SCRIPT = LocatorScripts.RESOLVE_ALL + """
+            var projection = arguments[1];
+            return resolveAll(arguments[0]).map(function (element) {
+              var item = {};
+              if (projection.allAttributes) {
+                for (var a = 0; a < element.attributes.length; a++) {
+                  item[element.attributes[a].name] = element.attributes[a].value;
+                }
+              }
+              projection.attributes.forEach(function (name) {
+                item[name] = element.getAttribute(name);
+              });
+              projection.properties.forEach(function (name) {
+                var value = element[name];
+                item['prop:' + name] = value === undefined || value === null || typeof value === 'string'
+                    || typeof value === 'number' || typeof value === 'boolean' ? value : String(value);
+              });
+              if (projection.styles.length > 0) {
+                var style = window.getComputedStyle(element);
+                projection.styles.forEach(function (name) {
+                  item['style:' + name] = style.getPropertyValue(name);
+                });
+              }
+              if (projection.text) {
+                item['#text'] = (element.innerText || '').trim();
+              }
+              return item;
+            });
+            """;
+    private static final String CAPTURE_CHECKPOINT_SCRIPT = """
+            var copy = function (storage) {
+              var values = {};
+              try {
+                for (var i = 0; i < storage.length; i++) {
+                  values[storage.key(i)] = storage.getItem(storage.key(i));
+                }
+              } catch (e) {}
+              return values;
+            };
+            var controls = Array.prototype.map.call(document.body.querySelectorAll('input, select, textarea'), function (control) {
+              return control.tagName === 'SELECT'
+                  ? Array.prototype.map.call(control.options, function (option) { return option.selected; })
+                  : [control.value, control.checked];
+            });
+            window.__pageCheckpoint = {
+              url: location.href, title: document.title, body: document.body.cloneNode(true), controls: controls,
+              local: copy(window.localStorage), session: copy(window.sessionStorage)
+            };
+            """;
+    private static final String RESTORE_CHECKPOINT_SCRIPT = """
+            var checkpoint = window.__pageCheckpoint;
+            if (!checkpoint || checkpoint.url !== location.href) {
+              return false;
+            }
+            var body = checkpoint.body.cloneNode(true);
+            document.documentElement.replaceChild(body, document.body);
+            document.title = checkpoint.title;
+            var controls = body.querySelectorAll('input, select, textarea');
+            if (controls.length !== checkpoint.controls.length) {
+              return false;
+            }
+            for (var c = 0; c < controls.length; c++) {
+              var state = checkpoint.controls[c];
+              if (controls[c].tagName === 'SELECT') {
+                for (var o = 0; o < controls[c].options.length; o++) {
+                  controls[c].options[o].selected = state[o];
+                }
+              } else {
+                controls[c].value = state[0];
+                controls[c].checked = state[1];
+              }
+            }
+            var restore = function (storage, values) {
+              try {
+                storage.clear();
+                for (var key in values) {
+                  storage.setItem(key, values[key]);
+                }
+              } catch (e) {}
+            };
+            restore(window.localStorage, checkpoint.local);
+            restore(window.sessionStorage, checkpoint.session);
+            window.scrollTo(0, 0);
+            return true;
+            """;
+
     protected WebDriver driver;
+    private final ThreadLocal<ElementCache> elementCache = ThreadLocal.withInitial(ElementCache::new);
+    private boolean elementCacheEnabled = Boolean.parseBoolean(System.getProperty("elementCache", "false"));
+    private final ThreadLocal<PageSnapshot> pageSnapshot = new ThreadLocal<>();
+    private final ThreadLocal<String> checkpointUrl = new ThreadLocal<>();
+
+    /**
+     * Page working with the browser session bound to the calling thread
+     */
+    public BasePage() {
+        this(DriverContext.threadBoundDriver());
+    }
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
     }
 
     /**
-     * Navigate to page with URL
+     * Navigate to page with URL. Load metrics of the page are collected, see {@link PageTimings},
+     * budgets are checked by tests.
      *
      * @param url defines url to navigate to
      */
     @Step("Navigating to the page")
     public void open(String url) {
+        elementCache.get().clear();
         driver.get(url);
+        if (PageTimings.isEnabled()) {
+            collectPageTiming();
+        }
+    }
+
+    /**
+     * Take load metrics of current page and attach them to report of running test
+     *
+     * @return metrics of last navigation of the page
+     */
+    @Step("Collecting page timing")
+    public PageTiming collectPageTiming() {
+        PageTiming timing = PageTimings.collect(driver);
+        if (Allure.getLifecycle().getCurrentTestCase().isPresent()) {
+            Allure.addAttachment("Page timing: " + timing.page(), "application/json", new Json().toJson(timing.toMap()), ".json");
+        }
+        return timing;
     }
 
     /**
@@ -45,6 +318,112 @@ public class BasePage {
     }
 
 
+//______________________________________________________Checkpoint______________________________________________________
+
+    /**
+     * Remember current state of the page: body, values of form fields, title and web storage.
+     * State is kept inside the page, so capture right after page is loaded and before tests change it.
+     */
+    @Step("Capturing page checkpoint")
+    public void captureCheckpoint() {
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        jse.executeScript(CAPTURE_CHECKPOINT_SCRIPT);
+        checkpointUrl.set(driver.getCurrentUrl());
+    }
+
+    /**
+     * Bring page back to the state of {@link #captureCheckpoint()} with one script call.
+     * Body is replaced with its pristine copy, so handlers added with 'addEventListener' to elements of body are lost,
+     * inline handlers and handlers on document and window keep working.
+     * If page was navigated away, reloaded or has an open alert, checkpoint URL is loaded again instead.
+     *
+     * @return true if page was restored in place, false if it was reloaded
+     */
+    @Step("Restoring page checkpoint")
+    public boolean restoreCheckpoint() {
+        String url = checkpointUrl.get();
+        if (url == null) {
+            throw new IllegalStateException("Checkpoint was not captured");
+        }
+        elementCache.get().clear();
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        try {
+            if (Boolean.TRUE.equals(jse.executeScript(RESTORE_CHECKPOINT_SCRIPT))) {
+                return true;
+            }
+        } catch (WebDriverException restoreFailed) {
+            // e.g. alert left open by previous test, fall back to reload
+        }
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException ignored) {
+            // nothing to dismiss
+        }
+        open(url);
+        captureCheckpoint();
+        return false;
+    }
+
+
+//___________________________________________________Element lookup_____________________________________________________
+
+    /**
+     * Turn element cache on or off for this page object. Cache can also be enabled for all pages with '-DelementCache=true'.
+     * Cached elements are reused until DOM epoch of the page changes after an action of this page object,
+     * page is opened again or element turns out to be stale. Cache hits cost no browser call.
+     *
+     * @param enabled defines whether elements found by locator are reused
+     */
+    public void setElementCacheEnabled(boolean enabled) {
+        elementCacheEnabled = enabled;
+        elementCache.get().clear();
+    }
+
+    public boolean isElementCacheEnabled() {
+        return elementCacheEnabled;
+    }
+
+    /**
+     * Find element on page, taking it from element cache when cache is enabled
+     *
+     * @param locator is a 'By' locator of element on web-page
+     */
+    protected WebElement findElement(By locator) {
+        return elementCacheEnabled ? elementCache.get().find(driver, locator) : driver.findElement(locator);
+    }
+
+    /**
+     * Read data from element. Stale cached element is looked up once again.
+     *
+     * @param locator is a 'By' locator of element on web-page
+     * @param reader  defines what is read from element
+     */
+    protected <T> T readElement(By locator, Function<WebElement, T> reader) {
+        try {
+            return reader.apply(findElement(locator));
+        } catch (StaleElementReferenceException exception) {
+            if (!elementCacheEnabled) {
+                throw exception;
+            }
+            elementCache.get().clear();
+            return reader.apply(findElement(locator));
+        }
+    }
+
+    /**
+     * Perform action that can change the page, so cached elements are verified before next lookup
+     *
+     * @param locator is a 'By' locator of element on web-page
+     * @param action  defines what is done with element
+     */
+    protected void actOnElement(By locator, Consumer<WebElement> action) {
+        readElement(locator, element -> {
+            action.accept(element);
+            return null;
+        });
+        elementCache.get().markDirty();
+    }
+
 //____________________________________________________Sending Keys______________________________________________________
 
     /**
@@ -55,6 +434,7 @@ public class BasePage {
      */
     public void sendKeysById(By locator, int id, String text) {
         driver.findElements(locator).get(id).sendKeys(text);
+        elementCache.get().markDirty();
     }
 
     /**
@@ -65,7 +445,46 @@ public class BasePage {
      */
     @Step("Sending keys to element")
     public void sendKeys(By locator, String text) {
-        driver.findElement(locator).sendKeys(text);
+        actOnElement(locator, element -> element.sendKeys(text));
+    }
+
+    /**
+     * Fill form fields, value replaces current content of the field.
+     * Fields are filled in iteration order of the map, use ordered map when page depends on it.
+     *
+     * @param values defines 'By' locators of fields and values to put into them
+     * @param mode   defines whether fields are filled with one script call or typed into with keystrokes
+     * @throws NoSuchElementException if one of fields is not found, no field is filled in script mode then
+     */
+    @Step("Filling form")
+    public void fillForm(Map<By, String> values, FillMode mode) {
+        if (mode == FillMode.KEYSTROKES) {
+            values.forEach((locator, value) -> actOnElement(locator, element -> {
+                element.clear();
+                element.sendKeys(value);
+            }));
+            return;
+        }
+        List<By> locators = new ArrayList<>(values.keySet());
+        List<Object> described = new ArrayList<>();
+        for (By locator : locators) {
+            described.add(LocatorScripts.describe(driver, locator));
+        }
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        int missing = ((Number) jse.executeScript(FILL_FORM_SCRIPT, described, new ArrayList<>(values.values()))).intValue();
+        elementCache.get().markDirty();
+        if (missing >= 0) {
+            throw new NoSuchElementException("Unable to locate element: " + locators.get(missing));
+        }
+    }
+
+    /**
+     * Fill form fields in mode defined with '-DfillMode' run variable
+     *
+     * @param values defines 'By' locators of fields and values to put into them
+     */
+    public void fillForm(Map<By, String> values) {
+        fillForm(values, FillMode.fromSystemProperties());
     }
 
     /**
@@ -74,8 +493,7 @@ public class BasePage {
      * @param locator defines element to be cleared
      */
     public void clearKeys(By locator) {
-        WebElement element = driver.findElement(locator);
-        element.clear();
+        actOnElement(locator, WebElement::clear);
     }
 
     /**
@@ -99,7 +517,7 @@ public class BasePage {
      */
     @Step("Clicking element")
     public void clickElement(By locator) {
-        driver.findElement(locator).click();
+        actOnElement(locator, WebElement::click);
     }
 
     /**
@@ -110,6 +528,7 @@ public class BasePage {
      */
     public void clickElementById(By locator, int id) {
         driver.findElements(locator).get(id).click();
+        elementCache.get().markDirty();
     }
 
     /**
@@ -120,9 +539,8 @@ public class BasePage {
      * @param locator is a 'By' locator of element on web-page
      */
     public void jsClick(By locator) {
-        WebElement element = driver.findElement(locator);
         JavascriptExecutor jse = (JavascriptExecutor) driver;
-        jse.executeScript("arguments[0].click();", element);
+        actOnElement(locator, element -> jse.executeScript("arguments[0].click();", element));
     }
 
     /**
@@ -133,13 +551,7 @@ public class BasePage {
      */
     @SuppressWarnings("unused")
     public void clickMultipleElements(By locator) {
-        List<WebElement> addresses = driver.findElements(locator);
-        int numberOfElements = addresses.size();
-        int iteration = 0;
-        while (iteration != numberOfElements) {
-            driver.findElements(locator).get(iteration).click();
-            iteration++;
-        }
+        throwFirstFailure(clickAll(locator, ClickOrder.DOCUMENT, true));
     }
 
     /**
@@ -149,14 +561,86 @@ public class BasePage {
      * @param locator is a 'By' locator of element on web-page
      */
     public void jsClickMultipleElements(By locator) {
-        List<WebElement> addresses = driver.findElements(locator);
-        int numberOfElements = addresses.size();
-        int iteration = 0;
-        while (iteration != numberOfElements) {
-            WebElement toClick = driver.findElements(locator).get(iteration);
-            JavascriptExecutor jse = (JavascriptExecutor) driver;
-            jse.executeScript("arguments[0].click();", toClick);
-            iteration++;
+        throwFirstFailure(jsClickAll(locator, ClickOrder.DOCUMENT, true));
+    }
+
+    /**
+     * Click every element matched by locator in one pass.
+     * Elements are looked up once, the lookup is repeated only if clicking made elements stale.
+     *
+     * @param locator       is a 'By' locator of elements on web-page
+     * @param order         defines order in which elements are clicked
+     * @param stopOnFailure defines whether clicking stops after first failed element
+     * @return outcome of every click in order of clicking
+     */
+    @Step("Clicking all elements")
+    public List<ClickOutcome> clickAll(By locator, ClickOrder order, boolean stopOnFailure) {
+        List<WebElement> elements = driver.findElements(locator);
+        List<ClickOutcome> outcomes = new ArrayList<>();
+        for (int index : clickIndexes(elements.size(), order)) {
+            WebDriverException error = null;
+            try {
+                elements.get(index).click();
+            } catch (StaleElementReferenceException stale) {
+                elements = driver.findElements(locator);
+                try {
+                    if (index >= elements.size()) {
+                        throw new NoSuchElementException("Element " + index + " of " + locator + " disappeared");
+                    }
+                    elements.get(index).click();
+                } catch (WebDriverException retryError) {
+                    error = retryError;
+                }
+            } catch (WebDriverException clickError) {
+                error = clickError;
+            }
+            outcomes.add(new ClickOutcome(index, error));
+            if (error != null && stopOnFailure) {
+                break;
+            }
+        }
+        elementCache.get().markDirty();
+        return outcomes;
+    }
+
+    /**
+     * Click every element matched by locator with a single java-script call.
+     * Will click through other elements without interception.
+     *
+     * @param locator       is a 'By' locator of elements on web-page
+     * @param order         defines order in which elements are clicked
+     * @param stopOnFailure defines whether clicking stops after first failed element
+     * @return outcome of every click in order of clicking
+     */
+    @Step("Clicking all elements with java-script")
+    public List<ClickOutcome> jsClickAll(By locator, ClickOrder order, boolean stopOnFailure) {
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        List<?> result = (List<?>) jse.executeScript(JS_CLICK_ALL_SCRIPT,
+                LocatorScripts.describe(driver, locator), order == ClickOrder.REVERSE, stopOnFailure);
+        List<ClickOutcome> outcomes = new ArrayList<>();
+        for (Object item : result) {
+            List<?> outcome = (List<?>) item;
+            String error = (String) outcome.get(1);
+            outcomes.add(new ClickOutcome(((Number) outcome.get(0)).intValue(),
+                    error == null ? null : new JavascriptException(error)));
+        }
+        elementCache.get().markDirty();
+        return outcomes;
+    }
+
+    private static List<Integer> clickIndexes(int size, ClickOrder order) {
+        List<Integer> indexes = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            indexes.add(order == ClickOrder.REVERSE ? size - 1 - index : index);
+        }
+        return indexes;
+    }
+
+    private static void throwFirstFailure(List<ClickOutcome> outcomes) {
+        for (ClickOutcome outcome : outcomes) {
+            if (!outcome.clicked()) {
+                throw outcome.error();
+            }
         }
     }
 
@@ -170,6 +654,7 @@ public class BasePage {
     public void scrollToElement(WebElement element) {
         Actions actions = new Actions(driver);
         actions.scrollToElement(element).perform();
+        elementCache.get().markDirty();
     }
 
     /**
@@ -181,6 +666,7 @@ public class BasePage {
     public void scrollDownPage(int deltaX, int deltaY) {
         Actions actions = new Actions(driver);
         actions.scrollByAmount(deltaX, deltaY).perform();
+        elementCache.get().markDirty();
     }
 
     /**
@@ -190,7 +676,7 @@ public class BasePage {
      */
     public void doubleClick(By locator) {
         Actions actions = new Actions(driver);
-        actions.doubleClick(driver.findElement(locator));
+        actOnElement(locator, actions::doubleClick);
     }
 
     /**
@@ -200,7 +686,7 @@ public class BasePage {
      */
     public void contextClick(By locator) {
         Actions actions = new Actions(driver);
-        actions.contextClick(driver.findElement(locator));
+        actOnElement(locator, actions::contextClick);
     }
 
     /**
@@ -210,7 +696,7 @@ public class BasePage {
      */
     public void clickAndHold(By locator) {
         Actions actions = new Actions(driver);
-        actions.clickAndHold(driver.findElement(locator));
+        actOnElement(locator, actions::clickAndHold);
     }
 
     /**
@@ -220,7 +706,7 @@ public class BasePage {
      */
     public void focusOnElement(By locator) {
         Actions actions = new Actions(driver);
-        actions.moveToElement(driver.findElement(locator)).perform();
+        actOnElement(locator, element -> actions.moveToElement(element).perform());
     }
 //_______________________________________________________Alerts_________________________________________________________
 
@@ -229,6 +715,7 @@ public class BasePage {
      */
     public void dismissAlert() {
         driver.switchTo().alert().dismiss();
+        elementCache.get().markDirty();
     }
 
     /**
@@ -237,6 +724,7 @@ public class BasePage {
     @Step("Accepting alert")
     public void acceptAlert() {
         driver.switchTo().alert().accept();
+        elementCache.get().markDirty();
     }
 
     /**
@@ -263,6 +751,7 @@ public class BasePage {
     public void switchToNewWindow() {
         String newTab = driver.getWindowHandle();
         driver.switchTo().window(newTab);
+        elementCache.get().clear();
     }
 
     /**
@@ -272,10 +761,33 @@ public class BasePage {
      */
     public void switchToOriginalWindow(String origin) {
         driver.switchTo().window(origin);
+        elementCache.get().clear();
     }
 
 //______________________________________________________Selects_________________________________________________________
 
+    /**
+     * Read options and selection of select element with one script call
+     *
+     * @param locator defines locator of options list
+     */
+    public SelectState readSelect(By locator) {
+        return runSelect(locator, "read", "value", List.of());
+    }
+
+    /**
+     * Make given options the only selected ones and fire 'change' once, all in one script call.
+     * Single select takes first of the values, the rest are ignored.
+     *
+     * @param locator defines locator of options list
+     * @param values  defines values of options that should be selected
+     * @return selection after the change
+     */
+    @Step("Setting selection")
+    public SelectState setSelection(By locator, Collection<String> values) {
+        return runSelect(locator, "set", "value", List.copyOf(values));
+    }
+
     /**
      * Select option by its value
      *
@@ -283,8 +795,7 @@ public class BasePage {
      * @param value   defines value that should be presented
      */
     public void selectByValue(By locator, String value) {
-        Select select = new Select(driver.findElement(locator));
-        select.selectByValue(value);
+        runSelect(locator, "select", "value", List.of(value));
     }
 
     /**
@@ -294,8 +805,7 @@ public class BasePage {
      * @param index   defines index of element that should be presented
      */
     public void selectByIndex(By locator, Integer index) {
-        Select select = new Select(driver.findElement(locator));
-        select.selectByIndex(index);
+        runSelect(locator, "select", "index", List.of(index));
     }
 
     /**
@@ -305,8 +815,7 @@ public class BasePage {
      * @param text    defines text that should be presented
      */
     public void selectByVisibleText(By locator, String text) {
-        Select select = new Select(driver.findElement(locator));
-        select.selectByVisibleText(text);
+        runSelect(locator, "select", "text", List.of(text));
     }
 
     /**
@@ -316,8 +825,7 @@ public class BasePage {
      * @param value   defines value that should be presented
      */
     public void deselectByValue(By locator, String value) {
-        Select select = new Select(driver.findElement(locator));
-        select.deselectByValue(value);
+        runSelect(locator, "deselect", "value", List.of(value));
     }
 
     /**
@@ -327,8 +835,7 @@ public class BasePage {
      * @param index   defines index of element that should be presented
      */
     public void deselectByIndex(By locator, Integer index) {
-        Select select = new Select(driver.findElement(locator));
-        select.deselectByIndex(index);
+        runSelect(locator, "deselect", "index", List.of(index));
     }
 
     /**
@@ -338,8 +845,7 @@ public class BasePage {
      * @param text    defines text that should be presented
      */
     public void deselectByVisibleText(By locator, String text) {
-        Select select = new Select(driver.findElement(locator));
-        select.deselectByVisibleText(text);
+        runSelect(locator, "deselect", "text", List.of(text));
     }
 
     /**
@@ -348,8 +854,43 @@ public class BasePage {
      * @param locator defines locator of options list
      */
     public void deselectAll(By locator) {
-        Select select = new Select(driver.findElement(locator));
-        select.deselectAll();
+        runSelect(locator, "deselectAll", "value", List.of());
+    }
+
+    /**
+     * Read or change selection of select element in one script call.
+     * Failures are reported with the same exceptions as Selenium 'Select' does.
+     *
+     * @param locator defines locator of options list
+     * @param action  defines 'read', 'select', 'deselect', 'deselectAll' or 'set'
+     * @param by      defines whether targets are option 'value', 'index' or 'text'
+     * @param targets defines options to act on
+     */
+    private SelectState runSelect(By locator, String action, String by, List<?> targets) {
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        List<?> result = (List<?>) jse.executeScript(SELECT_SCRIPT, LocatorScripts.describe(driver, locator),
+                action, by, targets);
+        if (!action.equals("read")) {
+            elementCache.get().markDirty();
+        }
+        String status = String.valueOf(result.get(0));
+        switch (status) {
+            case "missing" -> throw new NoSuchElementException("Unable to locate element: " + locator);
+            case "not-select" -> throw new UnexpectedTagNameException("select", String.valueOf(result.get(1)));
+            case "single" -> throw new UnsupportedOperationException("You may only deselect options of a multi-select");
+            case "single-all" -> throw new UnsupportedOperationException("You may only deselect all options of a multi-select");
+            case "select-disabled" -> throw new UnsupportedOperationException("You may not select an option in disabled select");
+            case "no-option" -> throw new NoSuchElementException(
+                    (by.equals("text") ? "Cannot locate element with text: " : "Cannot locate option with " + by + ": ")
+                            + result.get(1));
+            case "disabled" -> throw new UnsupportedOperationException("You may not select a disabled option");
+            default -> {
+                return new SelectState(Boolean.TRUE.equals(result.get(1)),
+                        ((List<?>) result.get(2)).stream().map(String::valueOf).toList(),
+                        ((List<?>) result.get(3)).stream().map(String::valueOf).toList(),
+                        ((List<?>) result.get(4)).stream().map(index -> ((Number) index).intValue()).toList());
+            }
+        }
     }
 
 //_______________________________________________________Waits__________________________________________________________
@@ -363,18 +904,16 @@ public class BasePage {
                 .until(ExpectedConditions.alertIsPresent());
     }
 
-    @Step("Waiting for element to be visible")
     /**
      * Wait until web-element is visible on page
      *
      * @param locator is a 'By' locator of element on web-page
      */
+    @Step("Waiting for element to be visible")
     @SuppressWarnings("UnusedReturnValue")
     public WebElement waitElementIsVisible(By locator) {
-        WebElement element = driver.findElement(locator);
-        new WebDriverWait(driver, Duration.ofSeconds(EXPLICIT_WAIT_10_SEC))
-                .until(ExpectedConditions.visibilityOf(element));
-        return element;
+        DomWait.until(driver, locator, DomWait.Condition.VISIBLE, null, Duration.ofSeconds(EXPLICIT_WAIT_10_SEC));
+        return findElement(locator);
     }
 
     /**
@@ -384,10 +923,41 @@ public class BasePage {
      */
     @SuppressWarnings("UnusedReturnValue")
     public WebElement waitElementIsClickable(By locator) {
-        WebElement element = driver.findElement(locator);
-        new WebDriverWait(driver, Duration.ofSeconds(EXPLICIT_WAIT_10_SEC))
-                .until(ExpectedConditions.elementToBeClickable(element));
-        return element;
+        DomWait.until(driver, locator, DomWait.Condition.CLICKABLE, null, Duration.ofSeconds(EXPLICIT_WAIT_10_SEC));
+        return findElement(locator);
+    }
+
+    /**
+     * Wait until web-element appears in DOM
+     *
+     * @param locator is a 'By' locator of element on web-page
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public WebElement waitElementIsPresent(By locator) {
+        DomWait.until(driver, locator, DomWait.Condition.PRESENT, null, Duration.ofSeconds(EXPLICIT_WAIT_10_SEC));
+        return findElement(locator);
+    }
+
+    /**
+     * Wait until visible text of web-element contains expected text
+     *
+     * @param locator is a 'By' locator of element on web-page
+     * @param text    defines expected text
+     */
+    public void waitTextIsPresent(By locator, String text) {
+        DomWait.until(driver, locator, DomWait.Condition.TEXT, text, Duration.ofSeconds(EXPLICIT_WAIT_10_SEC));
+    }
+
+    /**
+     * Wait until java-script predicate returns truthy value.
+     * Predicate is a function body that receives first element matched by locator as 'element',
+     * e.g. "return element.value.length > 3;"
+     *
+     * @param locator   is a 'By' locator of element on web-page, null if predicate does not need element
+     * @param predicate defines java-script function body
+     */
+    public void waitUntil(By locator, String predicate) {
+        DomWait.until(driver, locator, DomWait.Condition.PREDICATE, predicate, Duration.ofSeconds(EXPLICIT_WAIT_10_SEC));
     }
 
 //________________________________________________Working with elements_________________________________________________
@@ -398,8 +968,7 @@ public class BasePage {
      * @param locator defines element to check
      */
     public boolean checkElementSelected(By locator) {
-        WebElement element = driver.findElement(locator);
-        return element.isSelected();
+        return readElement(locator, WebElement::isSelected);
     }
 
     /**
@@ -408,8 +977,7 @@ public class BasePage {
      * @param locator defines element to check
      */
     public boolean checkElementIsDisplayed(By locator) {
-        WebElement element = driver.findElement(locator);
-        return element.isDisplayed();
+        return readElement(locator, WebElement::isDisplayed);
     }
 
     /**
@@ -418,8 +986,49 @@ public class BasePage {
      * @param locator defines element to check
      */
     public boolean checkElementIsEnabled(By locator) {
-        WebElement element = driver.findElement(locator);
-        return element.isEnabled();
+        return readElement(locator, WebElement::isEnabled);
+    }
+
+    /**
+     * Get state of many elements with one browser round trip
+     *
+     * @param locators defines elements to check
+     * @return presence, visibility, enabled state and text of every element in order of locators
+     */
+    @Step("Getting elements state")
+    public Map<By, ElementState> getElementStates(Collection<By> locators) {
+        List<Map<String, Object>> described = new ArrayList<>();
+        for (By locator : locators) {
+            described.add(LocatorScripts.describe(driver, locator));
+        }
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        List<?> result = (List<?>) jse.executeScript(ELEMENT_STATES_SCRIPT, described);
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        int index = 0;
+        for (By locator : locators) {
+            List<?> state = (List<?>) result.get(index++);
+            states.put(locator, state == null ? ElementState.ABSENT : new ElementState(
+                    (Boolean) state.get(0), (Boolean) state.get(1), (Boolean) state.get(2), (String) state.get(3)));
+        }
+        return states;
+    }
+
+    /**
+     * Check all elements are displayed using one browser round trip
+     *
+     * @param locators defines elements to check
+     * @return true if every element is displayed
+     * @throws NoSuchElementException if any of elements is not found on page
+     */
+    public boolean checkElementsDisplayed(Collection<By> locators) {
+        boolean displayed = true;
+        for (Map.Entry<By, ElementState> state : getElementStates(locators).entrySet()) {
+            if (!state.getValue().present()) {
+                throw new NoSuchElementException("Unable to locate element: " + state.getKey());
+            }
+            displayed &= state.getValue().displayed();
+        }
+        return displayed;
     }
 
     /**
@@ -430,10 +1039,29 @@ public class BasePage {
      * @return element from shadow root
      */
     public WebElement findShadowElement(By shadowRootLocator, By shadowContentLocator) {
-        SearchContext element = driver.findElement(shadowRootLocator).getShadowRoot();
+        SearchContext element = readElement(shadowRootLocator, WebElement::getShadowRoot);
         return element.findElement(shadowContentLocator);
     }
 
+    /**
+     * Get parsed copy of current page.
+     * Page is captured again only when its DOM epoch changed, so series of assertions
+     * against unchanged page cost one short round trip each, or none if snapshot is kept by caller.
+     *
+     * @return snapshot of page DOM
+     */
+    public PageSnapshot snapshot() {
+        PageSnapshot current = pageSnapshot.get();
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        List<?> result = (List<?>) jse.executeScript(SNAPSHOT_SCRIPT, current == null ? "" : current.epoch());
+        if (result.get(1) != null) {
+            current = new PageSnapshot(String.valueOf(result.get(0)), String.valueOf(result.get(1)),
+                    String.valueOf(result.get(2)));
+            pageSnapshot.set(current);
+        }
+        return current;
+    }
+
     /**
      * Check if:
      *
@@ -446,12 +1074,19 @@ public class BasePage {
     }
 
     /**
-     * Count elements on page
+     * Check text is presented anywhere in text of the page, visible or not, see {@link #snapshot()}
+     *
+     * @param text defines text to look for
+     */
+    public boolean isTextInSnapshot(String text) {
+        return snapshot().containsText(text);
+    }
+
+    /**
+     * Count elements on page. Standard locators are counted in page snapshot, others are looked up in browser.
      */
-    @SuppressWarnings("UnnecessaryLocalVariable")
     public Integer countElementsOnPage(By locator) {
-        Integer numberOfElements = driver.findElements(locator).size();
-        return numberOfElements;
+        return PageSnapshot.supports(locator) ? snapshot().count(locator) : driver.findElements(locator).size();
     }
 
     /**
@@ -478,10 +1113,63 @@ public class BasePage {
     @Step("Getting element text")
     @SuppressWarnings("UnnecessaryLocalVariable")
     public String getElementText(By locator) {
-        String text = driver.findElement(locator).getText();
+        String text = readElement(locator, WebElement::getText);
         return text;
     }
 
+    /**
+     * Read whole table with one browser round trip
+     *
+     * @param locator defines table element
+     * @return headers and body cells of the table
+     * @throws NoSuchElementException if table is not found on page
+     */
+    @Step("Reading table")
+    @SuppressWarnings("unchecked")
+    public TableSnapshot readTable(By locator) {
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        List<?> table = (List<?>) jse.executeScript(READ_TABLE_SCRIPT, LocatorScripts.describe(driver, locator));
+        if (table == null) {
+            throw new NoSuchElementException("Unable to locate table: " + locator);
+        }
+        return new TableSnapshot((List<String>) table.get(0), (List<List<String>>) table.get(1));
+    }
+
+    /**
+     * Extract attributes, properties, computed styles and text of every element matched by locator
+     * with one script call. Only what projection asks for is sent back.
+     *
+     * @param locator    is a 'By' locator of elements on web-page
+     * @param projection defines what is extracted, see {@link ElementProjection} for keys of result
+     * @return one map per element in document order, empty list if nothing matched
+     */
+    @Step("Extracting elements data")
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> extractAll(By locator, ElementProjection projection) {
+        Map<String, Object> described = new LinkedHashMap<>();
+        described.put("allAttributes", projection.allAttributes());
+        described.put("attributes", projection.attributes());
+        described.put("properties", projection.properties());
+        described.put("styles", projection.styles());
+        described.put("text", projection.text());
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        List<?> items = (List<?>) jse.executeScript(EXTRACT_ALL_SCRIPT, LocatorScripts.describe(driver, locator), described);
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Object item : items) {
+            result.add((Map<String, Object>) item);
+        }
+        return result;
+    }
+
+    /**
+     * Extract every attribute and text of every element matched by locator with one script call
+     *
+     * @param locator is a 'By' locator of elements on web-page
+     */
+    public List<Map<String, Object>> extractAll(By locator) {
+        return extractAll(locator, ElementProjection.ALL);
+    }
+
     /**
      * Get attribute value of defined element on page
      *
@@ -491,7 +1179,7 @@ public class BasePage {
      */
     public String getElementAttribute(By locator, String name) {
         @SuppressWarnings("UnnecessaryLocalVariable")
-        String attribute = driver.findElement(locator).getAttribute(name);
+        String attribute = readElement(locator, element -> element.getAttribute(name));
         return attribute;
     }
 
@@ -517,6 +1205,7 @@ public class BasePage {
         int randNumber = ThreadLocalRandom.current().nextInt(0, listSize);
         WebElement toClick = itemsInDropdown.get(randNumber);
         toClick.click();
+        elementCache.get().markDirty();
     }
 
     /**
@@ -526,9 +1215,8 @@ public class BasePage {
      */
     @SuppressWarnings("UnnecessaryLocalVariable")
     public Object getElementAttributes(By locator) {
-        WebElement element = driver.findElement(locator);
         JavascriptExecutor jse = (JavascriptExecutor) driver;
-        Object attributes = jse.executeScript("var items = {}; for (index = 0; index < arguments[0].attributes.length; ++index) { items[arguments[0].attributes[index].name] = arguments[0].attributes[index].value }; return items;", element);
+        Object attributes = readElement(locator, element -> jse.executeScript("var items = {}; for (index = 0; index < arguments[0].attributes.length; ++index) { items[arguments[0].attributes[index].name] = arguments[0].attributes[index].value }; return items;", element));
         return attributes;
     }
 
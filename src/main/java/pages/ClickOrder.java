@@ -0,0 +1,15 @@
+package pages;
+
+/**
+ * Order in which bulk click goes through matched elements
+ */
+public enum ClickOrder {
+    /**
+     * First to last element as they appear in document
+     */
+    DOCUMENT,
+    /**
+     * Last to first element, useful when clicking removes rows from the page
+     */
+    REVERSE
+}
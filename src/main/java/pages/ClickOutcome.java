@@ -0,0 +1,16 @@
+package pages;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Result of clicking single element during bulk click
+ *
+ * @param index defines position of element among elements matched by locator
+ * @param error is an error thrown by the click, null if click succeeded
+ */
+public record ClickOutcome(int index, WebDriverException error) {
+
+    public boolean clicked() {
+        return error == null;
+    }
+}
@@ -0,0 +1,47 @@
+package pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Cheap marker of DOM changes.
+ * MutationObserver injected into the page counts structural, attribute and text changes
+ * (inline style changes made by hover handlers are ignored). Epoch value changes whenever
+ * DOM was changed or another document was loaded.
+ */
+final class DomEpoch {
+    /**
+     * Defines 'currentEpoch()' function, installing the observer on first call for a document
+     */
+    static final String CURRENT_EPOCH = """
+            function currentEpoch() {
+              var epoch = window.__domEpoch;
+              if (!epoch) {
+                epoch = window.__domEpoch = {id: Math.random().toString(36).slice(2), count: 0};
+                new MutationObserver(function (records) {
+                  for (var i = 0; i < records.length; i++) {
+                    if (records[i].type !== 'attributes' || records[i].attributeName !== 'style') {
+                      epoch.count++;
+                      return;
+                    }
+                  }
+                }).observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+              }
+              return epoch.id + ':' + epoch.count;
+            }
+            """;
+    private static final String READ_SCRIPT = CURRENT_EPOCH + "return currentEpoch();";
+
+    private DomEpoch() {
+    }
+
+    /**
+     * Read current epoch of the page, installing the observer on first call for a document
+     *
+     * @param driver defines session to read epoch from
+     * @return value that changes with every DOM mutation or navigation
+     */
+    static String read(WebDriver driver) {
+        return (String) ((JavascriptExecutor) driver).executeScript(READ_SCRIPT);
+    }
+}
@@ -0,0 +1,122 @@
+package pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+/**
+ * Waits that run inside the browser.
+ * Condition is checked on every DOM mutation and animation frame and the wait resolves
+ * as soon as it holds, instead of polling the browser from test side every 500 ms.
+ */
+final class DomWait {
+
+    /**
+     * Kind of condition checked against first element matched by locator
+     */
+    enum Condition {
+        PRESENT, VISIBLE, CLICKABLE, TEXT, PREDICATE
+    }
+
+    private static final String WAIT_SCRIPT = LocatorScripts.RESOLVE_ALL + LocatorScripts.IS_VISIBLE + """
+            var locator = arguments[0];
+            var condition = arguments[1];
+            var expected = arguments[2];
+            var done = arguments[arguments.length - 1];
+            var predicate = condition === 'PREDICATE' ? new Function('element', expected) : null;
+            var check = function () {
+              var element = locator ? resolveAll(locator)[0] : null;
+              switch (condition) {
+                case 'PRESENT':
+                  return !!element;
+                case 'VISIBLE':
+                  return !!element && isVisible(element);
+                case 'CLICKABLE':
+                  return !!element && isVisible(element) && !element.matches(':disabled');
+                case 'TEXT':
+                  return !!element && element.innerText.indexOf(expected) !== -1;
+                default:
+                  return !!predicate(element);
+              }
+            };
+            var finished = false;
+            var observer, timer;
+            var finish = function (result) {
+              if (!finished) {
+                finished = true;
+                if (observer) {
+                  observer.disconnect();
+                }
+                clearTimeout(timer);
+                done(result);
+              }
+            };
+            if (check()) {
+              finish(true);
+              return;
+            }
+            observer = new MutationObserver(function () {
+              if (check()) {
+                finish(true);
+              }
+            });
+            observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+            var frame = function () {
+              if (!finished) {
+                if (check()) {
+                  finish(true);
+                } else {
+                  window.requestAnimationFrame(frame);
+                }
+              }
+            };
+            window.requestAnimationFrame(frame);
+            timer = setTimeout(function () { finish(false); }, arguments[3]);
+            """;
+
+    private DomWait() {
+    }
+
+    /**
+     * Wait until condition holds. If page is replaced during the wait, waiting continues on the new page.
+     *
+     * @param driver    defines session to wait in
+     * @param locator   is a 'By' locator of element on web-page, may be null for predicates
+     * @param condition defines what is awaited
+     * @param expected  defines expected text or body of java-script predicate receiving 'element'
+     * @param timeout   defines how long to wait
+     * @throws TimeoutException if condition did not hold in time
+     */
+    static void until(WebDriver driver, By locator, Condition condition, String expected, Duration timeout) {
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long remaining = timeout.toMillis();
+        int scriptFailures = 0;
+        while (remaining > 0) {
+            try {
+                Object described = locator == null ? false : LocatorScripts.describe(driver, locator);
+                if (Boolean.TRUE.equals(jse.executeAsyncScript(WAIT_SCRIPT,
+                        described, condition.name(), expected == null ? "" : expected, remaining))) {
+                    return;
+                }
+            } catch (ScriptTimeoutException scriptTimeout) {
+                // session script timeout is shorter than the wait, keep waiting
+            } catch (JavascriptException interrupted) {
+                // page unloaded during the wait, check again on the new page unless script itself is broken
+                if (++scriptFailures > 2) {
+                    throw interrupted;
+                }
+            }
+            remaining = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+        }
+        throw new TimeoutException("Expected condition failed: waiting for " + condition.name().toLowerCase()
+                + (locator == null ? "" : " of element located by " + locator)
+                + (expected == null ? "" : " '" + expected + "'")
+                + " (tried for " + timeout.toSeconds() + " second(s))");
+    }
+}
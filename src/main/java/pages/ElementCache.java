@@ -0,0 +1,60 @@
+package pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Elements already found by page object, keyed by locator.
+ * Cache is checked against {@link DomEpoch} only after an action of the page object that could change the page,
+ * so cache hits do not go to the browser at all. Changes made behind page object's back are noticed
+ * when cached element turns out to be stale.
+ */
+final class ElementCache {
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private String epoch;
+    private boolean dirty;
+
+    /**
+     * Get cached element or find and remember it
+     *
+     * @param driver  defines session to search in
+     * @param locator is a 'By' locator of element on web-page
+     */
+    WebElement find(WebDriver driver, By locator) {
+        if (dirty) {
+            String current = DomEpoch.read(driver);
+            if (!current.equals(epoch)) {
+                elements.clear();
+                epoch = current;
+            }
+            dirty = false;
+        }
+        WebElement element = elements.get(locator);
+        if (element == null) {
+            element = driver.findElement(locator);
+            elements.put(locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Page could have been changed, epoch has to be checked before next lookup
+     */
+    void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Forget all elements, e.g. after navigation or when stale element was detected.
+     * Nothing is cached then, so epoch is not read until next action.
+     */
+    void clear() {
+        elements.clear();
+        epoch = null;
+        dirty = false;
+    }
+}
@@ -0,0 +1,66 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Defines what is extracted from every element by {@link BasePage#extractAll(org.openqa.selenium.By, ElementProjection)}.
+ * Attributes are put into result under their names, properties under 'prop:name',
+ * computed styles under 'style:name' and text under '#text'.
+ *
+ * @param allAttributes defines whether every attribute of element is extracted
+ * @param attributes    defines attributes to extract, null value for missing attribute
+ * @param properties    defines DOM properties to extract, e.g. 'value' or 'checked'
+ * @param styles        defines computed style properties to extract, e.g. 'color'
+ * @param text          defines whether visible text of element is extracted
+ */
+public record ElementProjection(boolean allAttributes, List<String> attributes, List<String> properties,
+                                List<String> styles, boolean text) {
+    public static final String TEXT_KEY = "#text";
+
+    /**
+     * Every attribute and text of element
+     */
+    public static final ElementProjection ALL = new ElementProjection(true, List.of(), List.of(), List.of(), true);
+
+    public ElementProjection {
+        attributes = List.copyOf(attributes);
+        properties = List.copyOf(properties);
+        styles = List.copyOf(styles);
+    }
+
+    /**
+     * Projection of given attributes only
+     *
+     * @param names defines attribute names
+     */
+    public static ElementProjection attributes(String... names) {
+        return new ElementProjection(false, List.of(names), List.of(), List.of(), false);
+    }
+
+    public ElementProjection withProperties(String... names) {
+        return new ElementProjection(allAttributes, attributes, join(properties, names), styles, text);
+    }
+
+    public ElementProjection withStyles(String... names) {
+        return new ElementProjection(allAttributes, attributes, properties, join(styles, names), text);
+    }
+
+    public ElementProjection withText() {
+        return new ElementProjection(allAttributes, attributes, properties, styles, true);
+    }
+
+    public static String propertyKey(String name) {
+        return "prop:" + name;
+    }
+
+    public static String styleKey(String name) {
+        return "style:" + name;
+    }
+
+    private static List<String> join(List<String> current, String... names) {
+        List<String> joined = new ArrayList<>(current);
+        joined.addAll(List.of(names));
+        return joined;
+    }
+}
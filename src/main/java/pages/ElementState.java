@@ -0,0 +1,14 @@
+package pages;
+
+/**
+ * State of single element collected in one batched query
+ *
+ * @param present   defines whether element was found on page
+ * @param displayed defines whether element is visible to the user
+ * @param enabled   defines whether element can be interacted with
+ * @param text      is a visible text of the element, empty for absent or hidden elements
+ */
+public record ElementState(boolean present, boolean displayed, boolean enabled, String text) {
+
+    static final ElementState ABSENT = new ElementState(false, false, false, "");
+}
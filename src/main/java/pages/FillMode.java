@@ -0,0 +1,23 @@
+package pages;
+
+/**
+ * How form fields get their values
+ */
+public enum FillMode {
+    /**
+     * All fields are filled with one script call firing 'focus', 'input', 'change' and 'blur' events for each field.
+     * Fast, but no key events are fired and no keyboard is involved.
+     */
+    SCRIPT,
+    /**
+     * Every field is cleared and typed into with native keystrokes, exactly like a user would do it
+     */
+    KEYSTROKES;
+
+    /**
+     * Mode from '-DfillMode' run variable, 'script' by default
+     */
+    public static FillMode fromSystemProperties() {
+        return valueOf(System.getProperty("fillMode", "script").toUpperCase());
+    }
+}
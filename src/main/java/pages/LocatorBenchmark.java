@@ -0,0 +1,28 @@
+package pages;
+
+import org.openqa.selenium.By;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cost of finding one logical element with alternative locator strategies, measured in the browser
+ *
+ * @param element         defines name of element in {@link LocatorRegistry}
+ * @param microsPerLookup defines average lookup time of every strategy that finds the same elements as declared locator
+ * @param fastest         defines the cheapest of those strategies
+ */
+public record LocatorBenchmark(String element, Map<By, Double> microsPerLookup, By fastest) {
+
+    public LocatorBenchmark {
+        microsPerLookup = Collections.unmodifiableMap(new LinkedHashMap<>(microsPerLookup));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(element).append(": fastest ").append(fastest);
+        microsPerLookup.forEach((locator, micros) -> report.append(String.format("%n  %10.2f us  %s", micros, locator)));
+        return report.toString();
+    }
+}
@@ -0,0 +1,203 @@
+package pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locators of logical elements of a page object.
+ * Registered XPath locators are compiled into id or CSS selectors when that is safe (see {@link XPathToCss}),
+ * locators built from templates are compiled once per set of arguments.
+ * Page object registers its locators when its class is initialized and then {@link #freeze() freezes} the registry.
+ * {@link #benchmark(WebDriver, int)} measures declared and alternative strategies on the live page.
+ */
+public final class LocatorRegistry {
+    private static final String BENCHMARK_SCRIPT = LocatorScripts.RESOLVE_ALL + """
+            var candidates = arguments[0];
+            var rounds = arguments[1];
+            var reference = resolveAll(candidates[0]);
+            if (reference.length === 0) {
+              return [];
+            }
+            var id = reference.length === 1 ? reference[0].id : '';
+            var sameId = function (element) { return element.id === id; };
+            if (id && Array.prototype.filter.call(document.querySelectorAll('[id]'), sameId).length === 1) {
+              candidates = candidates.concat([{using: 'id', value: id}]);
+            }
+            return candidates.map(function (candidate) {
+              var found = resolveAll(candidate);
+              var same = found.length === reference.length
+                  && found.every(function (element, i) { return element === reference[i]; });
+              var started = performance.now();
+              for (var r = 0; r < rounds; r++) {
+                resolveAll(candidate);
+              }
+              return [candidate.using, candidate.value, same, (performance.now() - started) * 1000 / rounds];
+            });
+            """;
+
+    private record Entry(By declared, By compiled) {
+    }
+
+    private final Map<String, Entry> entries = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+    private final Map<List<Object>, By> resolved = new ConcurrentHashMap<>();
+    private volatile boolean frozen;
+
+    /**
+     * Register locator of logical element. Registering the same locator under the same name again is allowed.
+     *
+     * @param name    defines name of element
+     * @param locator defines declared locator
+     * @return compiled locator to be used by page object
+     */
+    public By register(String name, By locator) {
+        checkNotFrozen();
+        Entry entry = entries.computeIfAbsent(name, key -> new Entry(locator, compile(locator)));
+        if (!entry.declared().equals(locator)) {
+            throw new IllegalArgumentException("Locator '" + name + "' is already registered as " + entry.declared());
+        }
+        return entry.compiled();
+    }
+
+    /**
+     * Forbid registering more locators and templates, registered ones can still be read and resolved
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Get compiled locator of element
+     *
+     * @param name defines name of element
+     */
+    public By get(String name) {
+        return entry(name).compiled();
+    }
+
+    /**
+     * Get locator of element as it was registered
+     *
+     * @param name defines name of element
+     */
+    public By declared(String name) {
+        return entry(name).declared();
+    }
+
+    /**
+     * Register XPath template of elements that differ by a parameter, e.g. "//a[contains(@href,'%s')]"
+     *
+     * @param name   defines name of the template
+     * @param format defines XPath with 'String.format' placeholders
+     */
+    public void template(String name, String format) {
+        checkNotFrozen();
+        templates.putIfAbsent(name, format);
+    }
+
+    /**
+     * Get compiled locator built from template, compiled once for each set of arguments
+     *
+     * @param name defines name of the template
+     * @param args defines values of placeholders
+     */
+    public By resolve(String name, Object... args) {
+        String format = templates.get(name);
+        if (format == null) {
+            throw new IllegalArgumentException("No locator template '" + name + "'");
+        }
+        List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(name);
+        key.addAll(List.of(args));
+        return resolved.computeIfAbsent(key, k -> compile(By.xpath(String.format(format, args))));
+    }
+
+    /**
+     * Compile XPath locator into id or CSS one when that is safe, other locators are returned as they are
+     *
+     * @param locator defines declared locator
+     */
+    public static By compile(By locator) {
+        if (locator instanceof By.Remotable remotable && remotable.getRemoteParameters().using().equals("xpath")) {
+            return XPathToCss.rewrite(String.valueOf(remotable.getRemoteParameters().value())).orElse(locator);
+        }
+        return locator;
+    }
+
+    /**
+     * Measure in the browser how long every registered element takes to be found by declared locator,
+     * compiled locator and id of the element when it has unique one.
+     * Strategies that find other elements than declared locator are left out of the result.
+     *
+     * @param driver defines session with the page opened
+     * @param rounds defines how many lookups are averaged
+     * @return measurements and the fastest strategy of every element present on page
+     */
+    public Map<String, LocatorBenchmark> benchmark(WebDriver driver, int rounds) {
+        Map<String, Entry> snapshot;
+        synchronized (entries) {
+            snapshot = new LinkedHashMap<>(entries);
+        }
+        JavascriptExecutor jse = (JavascriptExecutor) driver;
+        Map<String, LocatorBenchmark> results = new LinkedHashMap<>();
+        snapshot.forEach((name, entry) -> {
+            List<Object> candidates = new ArrayList<>();
+            candidates.add(LocatorScripts.describe(driver, entry.declared()));
+            if (!entry.compiled().equals(entry.declared())) {
+                candidates.add(LocatorScripts.describe(driver, entry.compiled()));
+            }
+            Map<By, Double> timings = new LinkedHashMap<>();
+            By fastest = null;
+            for (Object measured : (List<?>) jse.executeScript(BENCHMARK_SCRIPT, candidates, rounds)) {
+                List<?> values = (List<?>) measured;
+                if (Boolean.TRUE.equals(values.get(2))) {
+                    By locator = toBy(String.valueOf(values.get(0)), String.valueOf(values.get(1)));
+                    double micros = ((Number) values.get(3)).doubleValue();
+                    timings.putIfAbsent(locator, micros);
+                    if (fastest == null || micros < timings.get(fastest)) {
+                        fastest = locator;
+                    }
+                }
+            }
+            if (fastest != null) {
+                results.put(name, new LocatorBenchmark(name, timings, fastest));
+            }
+        });
+        return results;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Locator registry is frozen");
+        }
+    }
+
+    private Entry entry(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("No locator '" + name + "'");
+        }
+        return entry;
+    }
+
+    private static By toBy(String using, String value) {
+        return switch (using) {
+            case "id" -> By.id(value);
+            case "name" -> By.name(value);
+            case "class name" -> By.className(value);
+            case "css selector" -> By.cssSelector(value);
+            case "tag name" -> By.tagName(value);
+            case "link text" -> By.linkText(value);
+            case "partial link text" -> By.partialLinkText(value);
+            default -> By.xpath(value);
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+
+import java.util.Map;
+
+/**
+ * Java-script helpers that resolve 'By' locators inside the browser,
+ * so many locators can be handled by a single 'executeScript' call.
+ */
+final class LocatorScripts {
+
+    /**
+     * Defines 'resolveAll(locator)' function returning array of elements matched by locator
+     * described with {@link #describe(SearchContext, By)}
+     */
+    static final String RESOLVE_ALL = """
+            function resolveAll(locator) {
+              var list = function (nodes) { return Array.prototype.slice.call(nodes); };
+              switch (locator.using) {
+                case 'id':
+                  return list(document.querySelectorAll('[id="' + locator.value.replace(/["\\\\]/g, '\\\\$&') + '"]'));
+                case 'name':
+                  return list(document.getElementsByName(locator.value));
+                case 'class name':
+                  return list(document.getElementsByClassName(locator.value));
+                case 'css selector':
+                  return list(document.querySelectorAll(locator.value));
+                case 'xpath':
+                  var snapshot = document.evaluate(locator.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  var found = [];
+                  for (var i = 0; i < snapshot.snapshotLength; i++) {
+                    found.push(snapshot.snapshotItem(i));
+                  }
+                  return found;
+                case 'tag name':
+                  return list(document.getElementsByTagName(locator.value));
+                case 'link text':
+                  return list(document.getElementsByTagName('a')).filter(function (a) { return a.innerText.trim() === locator.value; });
+                case 'partial link text':
+                  return list(document.getElementsByTagName('a')).filter(function (a) { return a.innerText.indexOf(locator.value) !== -1; });
+                default:
+                  return locator.value;
+              }
+            }
+            """;
+
+    /**
+     * Defines 'isVisible(element)' function, close approximation of WebDriver 'isDisplayed'
+     */
+    static final String IS_VISIBLE = """
+            function isVisible(element) {
+              if (element.isConnected === false || element.getClientRects().length === 0) {
+                return false;
+              }
+              var style = window.getComputedStyle(element);
+              if (style.visibility === 'hidden' || style.visibility === 'collapse') {
+                return false;
+              }
+              for (var e = element; e; e = e.parentElement) {
+                if (window.getComputedStyle(e).opacity === '0') {
+                  return false;
+                }
+              }
+              return true;
+            }
+            """;
+
+    private LocatorScripts() {
+    }
+
+    /**
+     * Describe locator as script argument.
+     * Standard locators are passed as strategy and value, any other locator is resolved
+     * with WebDriver beforehand and passed as list of found elements.
+     *
+     * @param context defines where non-standard locators are resolved
+     * @param locator is a 'By' locator of element on web-page
+     */
+    static Map<String, Object> describe(SearchContext context, By locator) {
+        if (locator instanceof By.Remotable remotable) {
+            By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+            return Map.of("using", parameters.using(), "value", parameters.value());
+        }
+        return Map.of("using", "elements", "value", context.findElements(locator));
+    }
+}
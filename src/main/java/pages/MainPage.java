@@ -4,41 +4,63 @@ import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class MainPage extends BasePage {
-    public final By TITLE_LOCATOR = By.id("title");
-    public final By RADIO_TITLE_LOCATOR = By.id("radio");
-    public final By RADIO_OPTION_ONE_LOCATOR = By.id("radio1");
-    public final By RADIO_OPTION_TWO_LOCATOR = By.id("radio2");
-    public final By RADIO_OPTION_THREE_LOCATOR = By.id("radio3");
-    public final By CHECKBOXES_TITLE_LOCATOR = By.id("checkbox");
-    public final By CHECKBOX_OPTION_ONE_LOCATOR = By.id("checkbox1");
-    public final By CHECKBOX_OPTION_TWO_LOCATOR = By.id("checkbox2");
-    public final By CHECKBOX_OPTION_THREE_LOCATOR = By.id("checkbox3");
-    public final By INPUT_TITLE_LOCATOR = By.id("input");
-    public final By NAME_INPUT_LOCATOR = By.id("text1");
-    public final By EMAIL_INPUT_LOCATOR = By.id("text2");
-    public final By PHONE_NUMBER_INPUT_LOCATOR = By.id("text3");
-    public final By SUBMIT_BUTTON_LOCATOR = By.id("submit");
-    public final By DROPDOWN_TITLE_LOCATOR = By.id("dropdown");
-    public final By DROPDOWN_LOCATOR = By.xpath("//select[@id='select-dropdown']");
-    public final By LINKS_TITLE_LOCATOR = By.id("links");
-    public final By LINKS_LOCATOR = By.xpath("//a[contains(@href,'')]");
-    public final By FIRST_LINK_LOCATOR = By.xpath("//a[@href='link1.html']");
-    public final By SECOND_LINK_LOCATOR = By.xpath("//a[@href='LINK1.html']");
-    public final By THIRD_LINK_LOCATOR = By.xpath("//a[@href='link2.html']");
-    public final By FOURTH_LINK_LOCATOR = By.xpath("//a[@href='LINK2.html']");
-    public final By RADIO_OPTION_SELECTED_LOCATOR = By.id("radio-option-selected");
-    public final By CHECKBOX_SELECTED_LOCATOR = By.id("options-selected");
-    public final By DROPDOWN_SELECTED_LOCATOR = By.id("dropdown-option-selected");
-    public final By USER_NAME_TABLE_LOCATOR = By.xpath("//tbody/tr[1]/td[2]");
-    public final By USER_EMAIL_TABLE_LOCATOR = By.xpath("//tbody/tr[2]/td[2]");
-    public final By USER_PHONE_TABLE_LOCATOR = By.xpath("//tbody/tr[3]/td[2]");
-
-
+    private static final LocatorRegistry LOCATORS = new LocatorRegistry();
+
+    public static final By TITLE_LOCATOR = LOCATORS.register("title", By.id("title"));
+    public static final By RADIO_TITLE_LOCATOR = LOCATORS.register("radioTitle", By.id("radio"));
+    public static final By RADIO_OPTION_ONE_LOCATOR = LOCATORS.register("radioOptionOne", By.id("radio1"));
+    public static final By RADIO_OPTION_TWO_LOCATOR = LOCATORS.register("radioOptionTwo", By.id("radio2"));
+    public static final By RADIO_OPTION_THREE_LOCATOR = LOCATORS.register("radioOptionThree", By.id("radio3"));
+    public static final By CHECKBOXES_TITLE_LOCATOR = LOCATORS.register("checkboxesTitle", By.id("checkbox"));
+    public static final By CHECKBOX_OPTION_ONE_LOCATOR = LOCATORS.register("checkboxOptionOne", By.id("checkbox1"));
+    public static final By CHECKBOX_OPTION_TWO_LOCATOR = LOCATORS.register("checkboxOptionTwo", By.id("checkbox2"));
+    public static final By CHECKBOX_OPTION_THREE_LOCATOR = LOCATORS.register("checkboxOptionThree", By.id("checkbox3"));
+    public static final By CHECKBOX_OPTIONS_LOCATOR = LOCATORS.register("checkboxOptions", By.name("checkbox"));
+    public static final By INPUT_TITLE_LOCATOR = LOCATORS.register("inputTitle", By.id("input"));
+    public static final By NAME_INPUT_LOCATOR = LOCATORS.register("nameInput", By.id("text1"));
+    public static final By EMAIL_INPUT_LOCATOR = LOCATORS.register("emailInput", By.id("text2"));
+    public static final By PHONE_NUMBER_INPUT_LOCATOR = LOCATORS.register("phoneNumberInput", By.id("text3"));
+    public static final By SUBMIT_BUTTON_LOCATOR = LOCATORS.register("submitButton", By.id("submit"));
+    public static final By DROPDOWN_TITLE_LOCATOR = LOCATORS.register("dropdownTitle", By.id("dropdown"));
+    public static final By DROPDOWN_LOCATOR = LOCATORS.register("dropdown", By.xpath("//select[@id='select-dropdown']"));
+    public static final By LINKS_TITLE_LOCATOR = LOCATORS.register("linksTitle", By.id("links"));
+    public static final By LINKS_LOCATOR = LOCATORS.register("links", By.xpath("//a[contains(@href,'')]"));
+    public static final By FIRST_LINK_LOCATOR = LOCATORS.register("firstLink", By.xpath("//a[@href='link1.html']"));
+    public static final By SECOND_LINK_LOCATOR = LOCATORS.register("secondLink", By.xpath("//a[@href='LINK1.html']"));
+    public static final By THIRD_LINK_LOCATOR = LOCATORS.register("thirdLink", By.xpath("//a[@href='link2.html']"));
+    public static final By FOURTH_LINK_LOCATOR = LOCATORS.register("fourthLink", By.xpath("//a[@href='LINK2.html']"));
+    public static final By RADIO_OPTION_SELECTED_LOCATOR = LOCATORS.register("radioOptionSelected", By.id("radio-option-selected"));
+    public static final By CHECKBOX_SELECTED_LOCATOR = LOCATORS.register("checkboxSelected", By.id("options-selected"));
+    public static final By DROPDOWN_SELECTED_LOCATOR = LOCATORS.register("dropdownSelected", By.id("dropdown-option-selected"));
+    public static final By USER_NAME_TABLE_LOCATOR = LOCATORS.register("userNameTable", By.xpath("//tbody/tr[1]/td[2]"));
+    public static final By USER_EMAIL_TABLE_LOCATOR = LOCATORS.register("userEmailTable", By.xpath("//tbody/tr[2]/td[2]"));
+    public static final By USER_PHONE_TABLE_LOCATOR = LOCATORS.register("userPhoneTable", By.xpath("//tbody/tr[3]/td[2]"));
+    public static final By USER_DATA_TABLE_LOCATOR = LOCATORS.register("userDataTable", By.tagName("table"));
+    public static final List<By> RADIO_SECTION_LOCATORS = List.of(RADIO_TITLE_LOCATOR,
+            RADIO_OPTION_ONE_LOCATOR, RADIO_OPTION_TWO_LOCATOR, RADIO_OPTION_THREE_LOCATOR);
+    public static final List<By> CHECKBOX_SECTION_LOCATORS = List.of(CHECKBOXES_TITLE_LOCATOR,
+            CHECKBOX_OPTION_ONE_LOCATOR, CHECKBOX_OPTION_TWO_LOCATOR, CHECKBOX_OPTION_THREE_LOCATOR);
+    public static final List<By> INPUT_SECTION_LOCATORS = List.of(INPUT_TITLE_LOCATOR,
+            NAME_INPUT_LOCATOR, EMAIL_INPUT_LOCATOR, PHONE_NUMBER_INPUT_LOCATOR, SUBMIT_BUTTON_LOCATOR);
+    public static final List<By> DROPDOWN_SECTION_LOCATORS = List.of(DROPDOWN_TITLE_LOCATOR, DROPDOWN_LOCATOR);
+    public static final List<By> LINKS_SECTION_LOCATORS = List.of(LINKS_TITLE_LOCATOR,
+            FIRST_LINK_LOCATOR, SECOND_LINK_LOCATOR, THIRD_LINK_LOCATOR, FOURTH_LINK_LOCATOR);
+
+    static {
+        LOCATORS.template("linkByHref", "//a[contains(@href,'%s')]");
+        LOCATORS.freeze();
+    }
+
+    public MainPage() {
+        super();
+    }
 
     public MainPage(WebDriver driver) {
         super(driver);
@@ -50,60 +72,49 @@ public class MainPage extends BasePage {
     }
 
 
+    /**
+     * Wait for title, so checks can start right after navigation with 'eager' or 'none' page load strategy
+     */
     public void checkTittleDisplayed(){
-        checkElementIsDisplayed(TITLE_LOCATOR);
+        waitElementIsVisible(TITLE_LOCATOR);
     }
 
     @Step("Check radio button section displayed")
     public void checkRadioDisplayed(){
-        checkElementIsDisplayed(RADIO_TITLE_LOCATOR);
-        checkElementIsDisplayed(RADIO_OPTION_ONE_LOCATOR);
-        checkElementIsDisplayed(RADIO_OPTION_TWO_LOCATOR);
-        checkElementIsDisplayed(RADIO_OPTION_THREE_LOCATOR);
+        checkElementsDisplayed(RADIO_SECTION_LOCATORS);
     }
 
     @Step("Check checkbox section displayed")
     public void checkCheckboxDisplayed(){
-        checkElementIsDisplayed(CHECKBOXES_TITLE_LOCATOR);
-        checkElementIsDisplayed(CHECKBOX_OPTION_ONE_LOCATOR);
-        checkElementIsDisplayed(CHECKBOX_OPTION_TWO_LOCATOR);
-        checkElementIsDisplayed(CHECKBOX_OPTION_THREE_LOCATOR);
+        checkElementsDisplayed(CHECKBOX_SECTION_LOCATORS);
     }
 
     @Step("Check input fields section displayed")
     public void checkInputDisplayed(){
-        checkElementIsDisplayed(INPUT_TITLE_LOCATOR);
-        checkElementIsDisplayed(NAME_INPUT_LOCATOR);
-        checkElementIsDisplayed(EMAIL_INPUT_LOCATOR);
-        checkElementIsDisplayed(PHONE_NUMBER_INPUT_LOCATOR);
-        checkElementIsDisplayed(SUBMIT_BUTTON_LOCATOR);
+        checkElementsDisplayed(INPUT_SECTION_LOCATORS);
     }
 
     @Step("Check dropdown section displayed")
     public void checkDropdownDisplayed(){
-        checkElementIsDisplayed(DROPDOWN_TITLE_LOCATOR);
-        checkElementIsDisplayed(DROPDOWN_LOCATOR);
+        checkElementsDisplayed(DROPDOWN_SECTION_LOCATORS);
     }
 
     @Step("Check links section displayed")
     public void checkLinksDisplayed(){
-        checkElementIsDisplayed(LINKS_TITLE_LOCATOR);
-        checkElementIsDisplayed(FIRST_LINK_LOCATOR);
-        checkElementIsDisplayed(SECOND_LINK_LOCATOR);
-        checkElementIsDisplayed(THIRD_LINK_LOCATOR);
-        checkElementIsDisplayed(FOURTH_LINK_LOCATOR);
+        checkElementsDisplayed(LINKS_SECTION_LOCATORS);
     }
 
     @Step("Finding all elements on the page")
     public boolean findAllElements(){
+        List<By> allLocators = new ArrayList<>();
+        allLocators.add(TITLE_LOCATOR);
+        allLocators.addAll(RADIO_SECTION_LOCATORS);
+        allLocators.addAll(CHECKBOX_SECTION_LOCATORS);
+        allLocators.addAll(INPUT_SECTION_LOCATORS);
+        allLocators.addAll(DROPDOWN_SECTION_LOCATORS);
+        allLocators.addAll(LINKS_SECTION_LOCATORS);
         try {
-            checkTittleDisplayed();
-            checkRadioDisplayed();
-            checkCheckboxDisplayed();
-            checkInputDisplayed();
-            checkDropdownDisplayed();
-            checkLinksDisplayed();
-            return true;
+            return checkElementsDisplayed(allLocators);
         }
         catch (NoSuchElementException exception) {
             exception.printStackTrace();
@@ -134,9 +145,11 @@ public class MainPage extends BasePage {
 
     @Step("User details input")
     public void inputUserDetails(String name, String email, String phone) {
-        inputName(name);
-        inputEmail(email);
-        inputPhoneNumber(phone);
+        Map<By, String> details = new LinkedHashMap<>();
+        details.put(NAME_INPUT_LOCATOR, name);
+        details.put(EMAIL_INPUT_LOCATOR, email);
+        details.put(PHONE_NUMBER_INPUT_LOCATOR, phone);
+        fillForm(details);
         clickSubmit();
     }
 
@@ -147,14 +160,18 @@ public class MainPage extends BasePage {
 
     @Step("Checking user data saved in table")
     public boolean checkUserDataInTable(String expectedName, String expectedEmail, String expectedPhone) {
-        if (expectedName.equals(getElementText(USER_NAME_TABLE_LOCATOR)) &&
-            expectedEmail.equals(getElementText(USER_EMAIL_TABLE_LOCATOR)) &&
-                expectedPhone.equals(getElementText(USER_PHONE_TABLE_LOCATOR))) {
+        TableSnapshot table = readTable(USER_DATA_TABLE_LOCATOR);
+        String actualName = table.valueFor("name").orElse(null);
+        String actualEmail = table.valueFor("email").orElse(null);
+        String actualPhone = table.valueFor("phone").orElse(null);
+        if (expectedName.equals(actualName) &&
+            expectedEmail.equals(actualEmail) &&
+                expectedPhone.equals(actualPhone)) {
             return true;
         }
         else {
-            String failedResult = expectedName.equals(getElementText(USER_NAME_TABLE_LOCATOR)) ?
-                                (expectedEmail.equals(getElementText(USER_EMAIL_TABLE_LOCATOR)) ?
+            String failedResult = expectedName.equals(actualName) ?
+                                (expectedEmail.equals(actualEmail) ?
                                 expectedPhone : expectedEmail) : expectedName;
             System.out.println("String: '" + failedResult + "' is not matching expected string ");
             return false;}
@@ -162,13 +179,19 @@ public class MainPage extends BasePage {
 
     @Step("Check number of links on the page")
     public int checkNumberOfLinks(){
-        List<WebElement> listOfLinks = driver.findElements(LINKS_LOCATOR);
-        return listOfLinks.size();
+        return snapshot().count(LINKS_LOCATOR);
+    }
+
+    @Step("Getting links addresses")
+    public List<String> getLinksHrefs() {
+        return extractAll(LINKS_LOCATOR, ElementProjection.attributes("href")).stream()
+                .map(link -> String.valueOf(link.get("href")))
+                .toList();
     }
 
     @Step("Check link is presented on page")
     public boolean checkLinkPresented(String linkHref){
-        return checkElementIsDisplayed(By.xpath("//a[contains(@href,'" + linkHref + "')]"));
+        return checkElementIsDisplayed(LOCATORS.resolve("linkByHref", linkHref));
     }
 
     @Step("Check chosen radio button")
@@ -179,16 +202,13 @@ public class MainPage extends BasePage {
 
     @Step("Check chosen checkboxes")
     public List<Integer> checkCheckboxOption() {
-        clickElement(CHECKBOX_OPTION_ONE_LOCATOR);
-        clickElement(CHECKBOX_OPTION_TWO_LOCATOR);
-        clickElement(CHECKBOX_OPTION_THREE_LOCATOR);
+        clickMultipleElements(CHECKBOX_OPTIONS_LOCATOR);
         return separateNumbersFromString(getElementText(CHECKBOX_SELECTED_LOCATOR));
     }
 
     @Step("Check chosen dropdown")
     public List<Integer> checkDropdownOption(String dropdownOption) {
-        clickElement(DROPDOWN_LOCATOR);
-        clickElement(By.xpath("//select[@id='select-dropdown']/*[" + dropdownOption + "]"));
+        selectByIndex(DROPDOWN_LOCATOR, Integer.parseInt(dropdownOption) - 1);
         return separateNumbersFromString(getElementText(DROPDOWN_SELECTED_LOCATOR));
     }
 
@@ -197,6 +217,15 @@ public class MainPage extends BasePage {
         return driver.getCurrentUrl().equals(expected);
     }
 
+    /**
+     * Measure lookup strategies of every registered element on current page, see {@link LocatorRegistry#benchmark(WebDriver, int)}
+     *
+     * @param rounds defines how many lookups are averaged
+     */
+    public Map<String, LocatorBenchmark> benchmarkLocators(int rounds) {
+        return LOCATORS.benchmark(driver, rounds);
+    }
+
     @Step("Check all data was saved")
     public boolean checkAllDataSaved(String name, String email, String phone) {
         checkUserDataInTable(name, email, phone);
@@ -0,0 +1,203 @@
+package pages;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed copy of page DOM taken at one DOM epoch.
+ * Text, attribute and element count assertions run against it in memory,
+ * without going to the browser. Values typed into inputs are not part of the snapshot.
+ */
+public final class PageSnapshot {
+    private static final Pattern ATTRIBUTE_VALUE = Pattern.compile(
+            "\\[\\s*([\\w-]+)\\s*([~|^$*]?=)\\s*(?:\"((?:[^\"\\\\]|\\\\.)*)\"|'((?:[^'\\\\]|\\\\.)*)'|([^\\s\\]\"']+))\\s*([iIsS])?\\s*]");
+    private static final String NOTHING = "(?!)";
+    private static final Set<String> STRATEGIES = Set.of("id", "name", "class name", "tag name", "css selector", "xpath",
+            "link text", "partial link text");
+    private static final Pattern CSS_ESCAPE = Pattern.compile("\\\\(?:([0-9a-fA-F]{1,6})\\s?|(.))");
+    private final String epoch;
+    private final Document document;
+    private final String text;
+    private final Map<String, List<Element>> ownTextIndex = new HashMap<>();
+
+    PageSnapshot(String epoch, String html, String baseUri) {
+        this.epoch = epoch;
+        this.document = Jsoup.parse(html, baseUri);
+        this.text = document.text();
+        for (Element element : document.getAllElements()) {
+            String ownText = element.ownText().trim();
+            if (!ownText.isEmpty()) {
+                ownTextIndex.computeIfAbsent(ownText, key -> new ArrayList<>()).add(element);
+            }
+        }
+    }
+
+    String epoch() {
+        return epoch;
+    }
+
+    /**
+     * Check text is presented anywhere in text of the page
+     *
+     * @param expected defines text to look for
+     */
+    public boolean containsText(String expected) {
+        return text.contains(expected);
+    }
+
+    /**
+     * Find elements whose own text is exactly the expected text
+     *
+     * @param expected defines text of element without text of its children
+     */
+    public List<Element> elementsWithText(String expected) {
+        return Collections.unmodifiableList(ownTextIndex.getOrDefault(expected, List.of()));
+    }
+
+    /**
+     * Count elements matched by locator
+     *
+     * @param locator is a 'By' locator of element on web-page
+     */
+    public int count(By locator) {
+        return select(locator).size();
+    }
+
+    /**
+     * Check element matched by locator is present in snapshot
+     *
+     * @param locator is a 'By' locator of element on web-page
+     */
+    public boolean isPresent(By locator) {
+        return !select(locator).isEmpty();
+    }
+
+    /**
+     * Get attribute values of all elements matched by locator
+     *
+     * @param locator is a 'By' locator of element on web-page
+     * @param name    is a name of attribute
+     */
+    public List<String> attributeValues(By locator, String name) {
+        return select(locator).eachAttr(name);
+    }
+
+    /**
+     * Check locator can be resolved in snapshot: it is a standard 'By' locator sent to browser as it is
+     *
+     * @param locator is a 'By' locator of element on web-page
+     */
+    public static boolean supports(By locator) {
+        return locator instanceof By.Remotable remotable && STRATEGIES.contains(remotable.getRemoteParameters().using());
+    }
+
+    /**
+     * Select elements in parsed document the same way browser would resolve the locator
+     *
+     * @param locator is a 'By' locator of element on web-page
+     */
+    public Elements select(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            throw new IllegalArgumentException("Locator can not be resolved in snapshot: " + locator);
+        }
+        String value = String.valueOf(remotable.getRemoteParameters().value());
+        return switch (remotable.getRemoteParameters().using()) {
+            case "id" -> document.getElementsByAttributeValue("id", value).stream()
+                    .filter(element -> element.id().equals(value))
+                    .collect(Elements::new, Elements::add, Elements::addAll);
+            case "name" -> document.getElementsByAttributeValue("name", value).stream()
+                    .filter(element -> element.attr("name").equals(value))
+                    .collect(Elements::new, Elements::add, Elements::addAll);
+            case "class name" -> document.getElementsByClass(value).stream()
+                    .filter(element -> element.classNames().contains(value))
+                    .collect(Elements::new, Elements::add, Elements::addAll);
+            case "tag name" -> document.getElementsByTag(value);
+            case "css selector" -> document.select(caseSensitive(value));
+            case "xpath" -> document.selectXpath(value);
+            case "link text" -> document.getElementsByTag("a").stream()
+                    .filter(link -> link.text().equals(value))
+                    .collect(Elements::new, Elements::add, Elements::addAll);
+            case "partial link text" -> document.getElementsByTag("a").stream()
+                    .filter(link -> link.text().contains(value))
+                    .collect(Elements::new, Elements::add, Elements::addAll);
+            default -> throw new IllegalArgumentException("Unsupported locator strategy: " + locator);
+        };
+    }
+
+    /**
+     * Jsoup compares attribute values ignoring case, browsers compare most of them exactly.
+     * Every attribute value condition ('=', '~=', '|=', '^=', '$=', '*=', with double, single or no quotes)
+     * is turned into regular expression condition, which jsoup evaluates case-sensitively.
+     * Attributes HTML compares ignoring case and conditions with 'i' flag stay case-insensitive.
+     *
+     * @param css defines CSS selector
+     */
+    private static String caseSensitive(String css) {
+        Matcher matcher = ATTRIBUTE_VALUE.matcher(css);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String quoted = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+            String value = quoted != null ? unescape(quoted) : unescape(matcher.group(5));
+            String literal = literal(value);
+            String regex = switch (matcher.group(2)) {
+                case "=" -> "^" + literal + "$";
+                case "~=" -> value.isEmpty() || value.chars().anyMatch(Character::isWhitespace)
+                        ? NOTHING : "(^|\\s)" + literal + "(\\s|$)";
+                case "|=" -> "^" + literal + "(-|$)";
+                case "^=" -> value.isEmpty() ? NOTHING : "^" + literal;
+                case "$=" -> value.isEmpty() ? NOTHING : literal + "$";
+                default -> value.isEmpty() ? NOTHING : literal;
+            };
+            boolean ignoreCase = "i".equalsIgnoreCase(matcher.group(6)) || (matcher.group(6) == null
+                    && XPathToCss.CASE_INSENSITIVE_VALUES.contains(matcher.group(1).toLowerCase()));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(
+                    "[" + matcher.group(1) + "~=" + (ignoreCase ? "(?i)" : "") + regex + "]"));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Resolve CSS escapes: '\\' followed by hex code point or by any other character
+     */
+    private static String unescape(String value) {
+        Matcher matcher = CSS_ESCAPE.matcher(value);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String replacement = matcher.group(1) != null
+                    ? new String(Character.toChars(Integer.parseInt(matcher.group(1), 16)))
+                    : matcher.group(2);
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Regular expression matching value literally. Everything except letters and digits is written as code point,
+     * so brackets, quotes and spaces can not break the selector.
+     */
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder();
+        value.codePoints().forEach(codePoint -> {
+            if (codePoint < 128 && Character.isLetterOrDigit(codePoint)) {
+                literal.appendCodePoint(codePoint);
+            } else {
+                literal.append("\\x{").append(Integer.toHexString(codePoint)).append('}');
+            }
+        });
+        return literal.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Options and selection of html select read with a single script call
+ *
+ * @param multiple defines whether select allows several options to be selected
+ * @param values   defines values of options in document order
+ * @param texts    defines visible texts of options in document order
+ * @param selected defines indexes of selected options
+ */
+public record SelectState(boolean multiple, List<String> values, List<String> texts, List<Integer> selected) {
+
+    public SelectState {
+        values = List.copyOf(values);
+        texts = List.copyOf(texts);
+        selected = List.copyOf(selected);
+    }
+
+    public List<String> selectedValues() {
+        List<String> selectedValues = new ArrayList<>();
+        selected.forEach(index -> selectedValues.add(values.get(index)));
+        return selectedValues;
+    }
+
+    public List<String> selectedTexts() {
+        List<String> selectedTexts = new ArrayList<>();
+        selected.forEach(index -> selectedTexts.add(texts.get(index)));
+        return selectedTexts;
+    }
+
+    /**
+     * Visible text of the first selected option, null if nothing is selected
+     */
+    public String firstSelectedText() {
+        return selected.isEmpty() ? null : texts.get(selected.get(0));
+    }
+}
@@ -0,0 +1,93 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable copy of html table read from page with a single script call
+ *
+ * @param headers defines texts of header cells, empty if table has no header
+ * @param rows    defines texts of body cells row by row
+ */
+public record TableSnapshot(List<String> headers, List<List<String>> rows) {
+
+    public TableSnapshot {
+        headers = List.copyOf(headers);
+        rows = rows.stream().<List<String>>map(List::copyOf).toList();
+    }
+
+    public int rowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Get text of cell by its position
+     *
+     * @param row    defines index of body row
+     * @param column defines index of cell in the row
+     */
+    public String cell(int row, int column) {
+        return rows.get(row).get(column);
+    }
+
+    /**
+     * Get text of cell by header of its column
+     *
+     * @param row    defines index of body row
+     * @param header defines header text of column
+     */
+    public String cell(int row, String header) {
+        return cell(row, columnIndex(header));
+    }
+
+    /**
+     * Get texts of all cells of the column
+     *
+     * @param header defines header text of column
+     */
+    public List<String> column(String header) {
+        int index = columnIndex(header);
+        List<String> column = new ArrayList<>();
+        for (List<String> row : rows) {
+            column.add(index < row.size() ? row.get(index) : null);
+        }
+        return column;
+    }
+
+    /**
+     * Look value up in key-value table, where first cell of a row is a key and second one is a value
+     *
+     * @param key defines text of first cell
+     * @return text of second cell of first row with that key
+     */
+    public Optional<String> valueFor(String key) {
+        return rows.stream()
+                .filter(row -> row.size() > 1 && row.get(0).equals(key))
+                .map(row -> row.get(1))
+                .findFirst();
+    }
+
+    /**
+     * Get key-value table as map, first cell of a row is a key and second one is a value
+     */
+    public Map<String, String> asMap() {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (List<String> row : rows) {
+            if (row.size() > 1) {
+                values.putIfAbsent(row.get(0), row.get(1));
+            }
+        }
+        return values;
+    }
+
+    private int columnIndex(String header) {
+        int index = headers.indexOf(header);
+        if (index < 0) {
+            throw new IllegalArgumentException("No column '" + header + "' in table with headers " + headers);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,182 @@
+package pages;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites simple XPath locators into equivalent CSS selectors, which browsers evaluate much faster.
+ * Only location paths made of '//' and '/' steps with tag names or '*' and predicates on attributes
+ * ('@a', '@a='v'', 'contains(@a,'v')', 'starts-with(@a,'v')' joined with 'and') or a leading position are supported.
+ * Anything else, and attributes whose values HTML matches case-insensitively in CSS, is left as XPath.
+ */
+final class XPathToCss {
+    private static final String NAME = "[A-Za-z_][\\w-]*";
+    private static final String LITERAL = "(?:'([^']*)'|\"([^\"]*)\")";
+    private static final Pattern EQUALS = Pattern.compile("@(" + NAME + ")\\s*=\\s*" + LITERAL);
+    private static final Pattern EXISTS = Pattern.compile("@(" + NAME + ")");
+    private static final Pattern FUNCTION = Pattern.compile("(contains|starts-with)\\(\\s*@(" + NAME + ")\\s*,\\s*" + LITERAL + "\\s*\\)");
+    private static final Pattern POSITION = Pattern.compile("[1-9]\\d*");
+    private static final Pattern ID_ONLY = Pattern.compile("//\\*\\[\\s*@id\\s*=\\s*" + LITERAL + "\\s*]");
+    static final Set<String> CASE_INSENSITIVE_VALUES = Set.of("accept", "align", "alink", "axis", "bgcolor",
+            "charset", "checked", "clear", "codetype", "color", "compact", "declare", "defer", "dir", "direction",
+            "disabled", "enctype", "face", "frame", "hreflang", "http-equiv", "lang", "language", "link", "media",
+            "method", "multiple", "nohref", "noresize", "noshade", "nowrap", "readonly", "rel", "rev", "rules", "scope",
+            "scrolling", "selected", "shape", "target", "text", "type", "valign", "valuetype", "vlink");
+
+    private XPathToCss() {
+    }
+
+    /**
+     * Rewrite XPath into id or CSS locator
+     *
+     * @param xpath defines XPath expression
+     * @return equivalent locator, empty if expression can not be rewritten safely
+     */
+    static Optional<By> rewrite(String xpath) {
+        String path = xpath.trim();
+        Matcher id = ID_ONLY.matcher(path);
+        if (id.matches()) {
+            return Optional.of(By.id(literal(id, 1)));
+        }
+        if (!path.startsWith("//")) {
+            return Optional.empty();
+        }
+        StringBuilder css = new StringBuilder();
+        int i = 0;
+        while (i < path.length()) {
+            String combinator;
+            if (path.startsWith("//", i)) {
+                combinator = " ";
+                i += 2;
+            } else if (path.charAt(i) == '/') {
+                combinator = " > ";
+                i++;
+            } else {
+                return Optional.empty();
+            }
+            int nameStart = i;
+            while (i < path.length() && (Character.isLetterOrDigit(path.charAt(i)) || "-_*".indexOf(path.charAt(i)) >= 0)) {
+                i++;
+            }
+            String name = path.substring(nameStart, i);
+            if (!name.equals("*") && !name.matches(NAME)) {
+                return Optional.empty();
+            }
+            StringBuilder step = new StringBuilder(name);
+            boolean firstPredicate = true;
+            while (i < path.length() && path.charAt(i) == '[') {
+                int close = closingBracket(path, i);
+                if (close < 0) {
+                    return Optional.empty();
+                }
+                String predicate = path.substring(i + 1, close).trim();
+                i = close + 1;
+                if (POSITION.matcher(predicate).matches()) {
+                    // position counts siblings before other predicates filter them, only the first one maps to CSS
+                    if (!firstPredicate) {
+                        return Optional.empty();
+                    }
+                    step.append(name.equals("*") ? ":nth-child(" : ":nth-of-type(").append(predicate).append(')');
+                } else {
+                    Optional<String> conditions = conditions(predicate);
+                    if (conditions.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    step.append(conditions.get());
+                }
+                firstPredicate = false;
+            }
+            if (!css.isEmpty()) {
+                css.append(combinator);
+            }
+            css.append(step);
+        }
+        return Optional.of(By.cssSelector(css.toString()));
+    }
+
+    private static Optional<String> conditions(String predicate) {
+        StringBuilder css = new StringBuilder();
+        for (String term : splitAnd(predicate)) {
+            Matcher matcher;
+            if ((matcher = EQUALS.matcher(term)).matches()) {
+                if (CASE_INSENSITIVE_VALUES.contains(matcher.group(1).toLowerCase())) {
+                    return Optional.empty();
+                }
+                css.append('[').append(matcher.group(1)).append("=\"").append(escape(literal(matcher, 2))).append("\"]");
+            } else if ((matcher = FUNCTION.matcher(term)).matches()) {
+                String attribute = matcher.group(2);
+                String value = literal(matcher, 3);
+                if (value.isEmpty()) {
+                    // missing attribute is an empty string in XPath, so the condition holds for every element
+                    continue;
+                }
+                if (CASE_INSENSITIVE_VALUES.contains(attribute.toLowerCase())) {
+                    return Optional.empty();
+                } else {
+                    css.append('[').append(attribute).append(matcher.group(1).equals("contains") ? "*=\"" : "^=\"")
+                            .append(escape(value)).append("\"]");
+                }
+            } else if ((matcher = EXISTS.matcher(term)).matches()) {
+                css.append('[').append(matcher.group(1)).append(']');
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(css.toString());
+    }
+
+    private static List<String> splitAnd(String predicate) {
+        List<String> terms = new ArrayList<>();
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < predicate.length(); i++) {
+            char c = predicate.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (predicate.startsWith(" and ", i)) {
+                terms.add(predicate.substring(start, i).trim());
+                start = i + 5;
+                i += 4;
+            }
+        }
+        terms.add(predicate.substring(start).trim());
+        return terms;
+    }
+
+    private static int closingBracket(String path, int open) {
+        char quote = 0;
+        for (int i = open + 1; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                return -1;
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String literal(Matcher matcher, int group) {
+        return matcher.group(group) != null ? matcher.group(group) : matcher.group(group + 1);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
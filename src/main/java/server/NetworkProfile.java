@@ -0,0 +1,56 @@
+package server;
+
+/**
+ * Network conditions {@link StaticServer} simulates for every response.
+ * Chosen with '-Dserver.profile' variable, '-Dserver.latency' and '-Dserver.bandwidth' override values of the profile.
+ *
+ * @param name           defines profile name shown in logs
+ * @param latencyMillis  defines delay before response starts, in milliseconds
+ * @param bytesPerSecond defines download speed of response body, 0 for unlimited
+ */
+public record NetworkProfile(String name, long latencyMillis, long bytesPerSecond) {
+    public static final NetworkProfile NONE = new NetworkProfile("none", 0, 0);
+    public static final NetworkProfile WIFI = new NetworkProfile("wifi", 10, 3_750_000);
+    public static final NetworkProfile FOUR_G = new NetworkProfile("4g", 40, 1_125_000);
+    public static final NetworkProfile FAST_3G = new NetworkProfile("fast3g", 560, 180_000);
+    public static final NetworkProfile SLOW_3G = new NetworkProfile("slow3g", 2000, 50_000);
+
+    public NetworkProfile {
+        if (latencyMillis < 0 || bytesPerSecond < 0) {
+            throw new IllegalArgumentException("Latency and bandwidth can not be negative: " + latencyMillis + ", " + bytesPerSecond);
+        }
+    }
+
+    /**
+     * Build profile from run variables
+     */
+    public static NetworkProfile fromSystemProperties() {
+        NetworkProfile profile = forName(System.getProperty("server.profile", NONE.name()));
+        long latency = Long.getLong("server.latency", profile.latencyMillis());
+        long bandwidth = Long.getLong("server.bandwidth", profile.bytesPerSecond());
+        if (latency == profile.latencyMillis() && bandwidth == profile.bytesPerSecond()) {
+            return profile;
+        }
+        return new NetworkProfile("custom", latency, bandwidth);
+    }
+
+    /**
+     * Get predefined profile
+     *
+     * @param name defines profile name: none, wifi, 4g, fast3g or slow3g
+     */
+    public static NetworkProfile forName(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "none" -> NONE;
+            case "wifi" -> WIFI;
+            case "4g" -> FOUR_G;
+            case "fast3g" -> FAST_3G;
+            case "slow3g" -> SLOW_3G;
+            default -> throw new IllegalArgumentException("Unsupported network profile: " + name);
+        };
+    }
+
+    public boolean isThrottled() {
+        return bytesPerSecond > 0;
+    }
+}
@@ -0,0 +1,276 @@
+package server;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves local test pages over HTTP, so pages are cached, compressed and loaded over network like real ones
+ * and can be opened by several sessions at once, including remote ones.
+ * Responses carry 'ETag' and 'Last-Modified' headers and are answered with '304' when browser already has them,
+ * text content is gzip compressed for browsers accepting it. Every response is delayed and throttled
+ * according to {@link NetworkProfile}.
+ */
+public final class StaticServer implements AutoCloseable {
+    private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+            Map.entry("html", "text/html; charset=utf-8"),
+            Map.entry("htm", "text/html; charset=utf-8"),
+            Map.entry("css", "text/css; charset=utf-8"),
+            Map.entry("js", "text/javascript; charset=utf-8"),
+            Map.entry("json", "application/json"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("png", "image/png"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("ico", "image/x-icon"));
+    private static StaticServer shared;
+
+    private final Path root;
+    private final NetworkProfile profile;
+    private final int cacheSeconds;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String baseUrl;
+    private final Map<Path, Resource> resources = new ConcurrentHashMap<>();
+
+    /**
+     * Start server on background threads
+     *
+     * @param root         defines directory with served files
+     * @param host         defines host name server listens on and is reached by
+     * @param port         defines port, 0 for any free port
+     * @param profile      defines simulated network conditions
+     * @param cacheSeconds defines how long browser may use cached response without asking server, 0 to always revalidate
+     */
+    public StaticServer(Path root, String host, int port, NetworkProfile profile, int cacheSeconds) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.profile = profile;
+        this.cacheSeconds = cacheSeconds;
+        this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        this.executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "static-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        this.baseUrl = "http://" + host + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Base URL of test pages for current run. '-DbaseUrl' is used as is when set,
+     * with '-Dserver=true' pages are served by shared server started on first call,
+     * otherwise pages are opened from 'testPages' directory as files.
+     * Server is configured with '-Dserver.host' (default 'localhost'), '-Dserver.port' (default any free port),
+     * '-Dserver.cacheSeconds' (default 0) and network profile variables, see {@link NetworkProfile}.
+     */
+    public static synchronized String baseUrlFromSystemProperties() {
+        String baseUrl = System.getProperty("baseUrl");
+        if (baseUrl != null) {
+            return baseUrl;
+        }
+        Path pages = Paths.get(System.getProperty("user.dir"), "testPages");
+        if (!Boolean.parseBoolean(System.getProperty("server", "false"))) {
+            return "file://" + pages;
+        }
+        if (shared == null) {
+            try {
+                shared = new StaticServer(pages, System.getProperty("server.host", "localhost"),
+                        Integer.getInteger("server.port", 0), NetworkProfile.fromSystemProperties(),
+                        Integer.getInteger("server.cacheSeconds", 0));
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Unable to start test pages server", exception);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "static-server-shutdown"));
+        }
+        return shared.baseUrl();
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public NetworkProfile profile() {
+        return profile;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            pause(profile.latencyMillis());
+            Path file = resolve(exchange.getRequestURI().getPath());
+            if (file == null || !Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            Resource resource = resource(file);
+            Headers request = exchange.getRequestHeaders();
+            boolean gzip = resource.gzipped() != null
+                    && String.valueOf(request.getFirst("Accept-Encoding")).contains("gzip");
+            String etag = "\"" + resource.etag() + (gzip ? "-gz" : "") + "\"";
+            Headers response = exchange.getResponseHeaders();
+            response.set("Content-Type", resource.contentType());
+            response.set("ETag", etag);
+            response.set("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(resource.modified().atOffset(ZoneOffset.UTC)));
+            response.set("Cache-Control", cacheSeconds > 0 ? "max-age=" + cacheSeconds : "no-cache");
+            if (resource.gzipped() != null) {
+                response.set("Vary", "Accept-Encoding");
+            }
+            if (notModified(request, etag, resource.modified())) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            byte[] body = gzip ? resource.gzipped() : resource.content();
+            if (gzip) {
+                response.set("Content-Encoding", "gzip");
+            }
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = profile.isThrottled()
+                    ? new ThrottledOutputStream(exchange.getResponseBody(), profile.bytesPerSecond())
+                    : exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Find file for decoded request path, null if path points outside of served directory
+     */
+    private Path resolve(String path) {
+        if (path == null) {
+            return null;
+        }
+        Path file = root.resolve(path.replaceFirst("^/+", "")).normalize();
+        return file.startsWith(root) ? file : null;
+    }
+
+    /**
+     * Read file, files are read again only after they change
+     */
+    private Resource resource(Path file) throws IOException {
+        Instant modified = Files.getLastModifiedTime(file).toInstant();
+        Resource cached = resources.get(file);
+        if (cached != null && cached.modified().equals(modified)) {
+            return cached;
+        }
+        byte[] content = Files.readAllBytes(file);
+        String name = file.getFileName().toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase();
+        String contentType = CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+        boolean compressible = contentType.startsWith("text/") || contentType.contains("json") || contentType.contains("svg");
+        String etag = Long.toHexString(content.length) + "-" + Long.toHexString(modified.toEpochMilli());
+        Resource resource = new Resource(content, compressible ? gzip(content) : null, contentType, etag,
+                modified.truncatedTo(ChronoUnit.SECONDS));
+        resources.put(file, resource);
+        return resource;
+    }
+
+    private static boolean notModified(Headers request, String etag, Instant modified) {
+        String ifNoneMatch = request.getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            return ifNoneMatch.equals("*") || ifNoneMatch.contains(etag);
+        }
+        String ifModifiedSince = request.getFirst("If-Modified-Since");
+        if (ifModifiedSince != null) {
+            try {
+                return !modified.isAfter(Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(ifModifiedSince)));
+            } catch (DateTimeParseException exception) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void pause(long millis) throws IOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while simulating latency", exception);
+        }
+    }
+
+    private record Resource(byte[] content, byte[] gzipped, String contentType, String etag, Instant modified) {
+    }
+
+    /**
+     * Writes no faster than given number of bytes per second, in slices sent every 50 milliseconds
+     */
+    private static final class ThrottledOutputStream extends FilterOutputStream {
+        private static final int SLICES_PER_SECOND = 20;
+        private final long bytesPerSecond;
+        private final long started = System.nanoTime();
+        private long written;
+
+        private ThrottledOutputStream(OutputStream out, long bytesPerSecond) {
+            super(out);
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            int slice = (int) Math.max(1, bytesPerSecond / SLICES_PER_SECOND);
+            for (int position = offset; position < offset + length; position += slice) {
+                int size = Math.min(slice, offset + length - position);
+                out.write(bytes, position, size);
+                out.flush();
+                written += size;
+                long due = written * 1000 / bytesPerSecond - (System.nanoTime() - started) / 1_000_000;
+                pause(due);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+    }
+}
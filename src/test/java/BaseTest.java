@@ -1,70 +1,78 @@
+import driver.CommandTimings;
+import driver.DriverContext;
+import extensions.CommandTimingExtension;
+import extensions.ArtifactPipeline;
+import extensions.DriverPrewarmListener;
+import extensions.FailureCaptureExtension;
+import extensions.MatrixExtension;
+import extensions.PageBudgetExtension;
 import io.qameta.allure.Step;
+import metrics.PageTimings;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 import pages.MainPage;
 
 import static constants.constant.Urls.MAIN_PAGE;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith({MatrixExtension.class, CommandTimingExtension.class, PageBudgetExtension.class, FailureCaptureExtension.class})
 public class BaseTest {
 
     protected WebDriver driver = setUp();
     protected MainPage mainPage = new MainPage(driver);
 
+    /**
+     * Driver of the thread running this class.
+     * Returned driver routes calls to that session, so classes running in parallel do not interfere.
+     * Session is taken from pool on first use, usually already launched in background by {@link DriverPrewarmListener}.
+     * With '-Dtimings=true' every command of the driver is timed, see {@link CommandTimings}.
+     */
     @Step("Setting up driver")
     public WebDriver setUp() {
-
-        WebDriver driver = null;
-        String browserType = System.getProperty("browser", "chrome");
-        boolean headless = Boolean.parseBoolean(System.getProperty("headless", "false"));
-        switch (browserType) {
-            case "chrome" -> {
-                ChromeOptions chromeOptions = new ChromeOptions();
-                if (headless) {
-                    chromeOptions.addArguments("--headless=new");
-                }
-                driver = new ChromeDriver(chromeOptions);
-                driver.manage().window().maximize();
-            }
-            case "edge" -> {
-                EdgeOptions edgeOptions = new EdgeOptions();
-                if (headless) {
-                    edgeOptions.addArguments("--headless=new");
-                }
-                driver = new EdgeDriver(edgeOptions);
-                driver.manage().window().maximize();
-            }
-            case "firefox" -> {
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                if (headless) {
-                    firefoxOptions.addArguments("--headless=new");
-                }
-                driver = new FirefoxDriver(firefoxOptions);
-                driver.manage().window().maximize();
-            }
-        }
-        return driver;
+        return CommandTimings.instrument(DriverContext.threadBoundDriver());
     }
 
+    /**
+     * Main page is usually opened already by pre-warmed session, its load metrics are taken from that navigation
+     * and checked against budgets
+     */
     @Step("Navigating to main page")
     @BeforeAll
     public void navigate() {
-        driver.get(MAIN_PAGE);
+        PageTimings.track();
+        if (!mainPage.isOpened(MAIN_PAGE)) {
+            mainPage.open(MAIN_PAGE);
+        } else if (PageTimings.isEnabled()) {
+            mainPage.collectPageTiming();
+        }
+        PageTimings.tracked().forEach(PageTimings::checkBudgets);
         mainPage.checkTittleDisplayed();
+        mainPage.captureCheckpoint();
+    }
+
+    /**
+     * Every test starts from the page as it was after navigation.
+     * Page is restored in place with one script call and reloaded only when that is not possible.
+     */
+    @Step("Restoring page state")
+    @BeforeEach
+    public void restorePage() {
+        mainPage.restoreCheckpoint();
     }
 
-    @Step("Quiting driver")
+    /**
+     * Screenshots and page sources of failed tests are written in background,
+     * they are flushed before the session goes back to pool.
+     */
+    @Step("Releasing driver")
     @AfterAll
     public void tearDown() {
-        driver.quit();
+        ArtifactPipeline.getInstance().flush();
+        DriverContext.release();
     }
 
 }
@@ -84,7 +84,11 @@ public class MainPageTest extends BaseTest {
         String email = "test@test.mail";
         String phone = "+99112345678";
         mainPage.checkCurrentUrl(MAIN_PAGE);
-        checkChosenDropdownValue();
+        mainPage.checkRadioOption("radio1");
+        mainPage.checkCheckboxOption();
+        mainPage.checkDropdownOption("2");
+        mainPage.inputUserDetails(name, email, phone);
+        mainPage.handleAlert();
         Assertions.assertTrue(mainPage.checkAllDataSaved(name, email, phone));
 
     }
@@ -0,0 +1,138 @@
+package extensions;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.util.PropertiesUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes Allure attachments in background, so tests only pay for taking raw content from the browser.
+ * Attachment is registered in the report on test thread, its content is hashed, compressed if asked
+ * and written by a bounded pool. Content already written during the run is hard linked instead of written again.
+ * When the queue is full the test thread writes attachment itself, so a burst of failures can not pile up in memory.
+ */
+public final class ArtifactPipeline {
+    private static final ArtifactPipeline INSTANCE = new ArtifactPipeline(
+            Integer.getInteger("capture.threads", 1), Integer.getInteger("capture.queue", 16));
+
+    private final ThreadPoolExecutor executor;
+    private final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+    private final Map<String, Path> written = new ConcurrentHashMap<>();
+    private final Path resultsDirectory = Paths.get(PropertiesUtils.loadAllureProperties()
+            .getProperty("allure.results.directory", "allure-results"));
+
+    private ArtifactPipeline(int threads, int capacity) {
+        executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacity), task -> {
+            Thread thread = new Thread(task, "failure-artifacts");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "failure-artifacts-flush"));
+    }
+
+    public static ArtifactPipeline getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Add attachment to current test or step of Allure report and write its content in background.
+     * Has to be called from the thread running the test.
+     *
+     * @param name      defines attachment name shown in report
+     * @param type      defines MIME type of content as it is written
+     * @param extension defines file extension, e.g. '.png'
+     * @param content   defines raw content, it must not be changed after the call
+     * @param compress  defines whether content is written gzip compressed
+     */
+    public void attach(String name, String type, String extension, byte[] content, boolean compress) {
+        String source = Allure.getLifecycle().prepareAttachment(name, type, extension);
+        pending.add(executor.submit(() -> write(source, content, compress)));
+    }
+
+    /**
+     * Wait until every attachment handed over so far is written
+     *
+     * @throws IllegalStateException if some attachments could not be written, after the rest is written
+     */
+    public void flush() {
+        IllegalStateException failure = null;
+        Future<?> task;
+        while ((task = pending.poll()) != null) {
+            try {
+                task.get();
+            } catch (ExecutionException exception) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Unable to write attachment", exception.getCause());
+                } else {
+                    failure.addSuppressed(exception.getCause());
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void write(String source, byte[] content, boolean compress) {
+        String digest = sha256(content) + (compress ? ".gz" : "");
+        Path target = resultsDirectory.resolve(source);
+        Path first = written.get(digest);
+        if (first == null) {
+            // written outside of the map, so other test classes are not blocked by file system;
+            // two threads writing the same content at once both write it in full
+            Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(compress ? gzip(content) : content));
+            written.putIfAbsent(digest, target);
+        } else {
+            try {
+                Files.createLink(target, first);
+            } catch (FileAlreadyExistsException exception) {
+                // attachment is already there
+            } catch (IOException | UnsupportedOperationException exception) {
+                Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(compress ? gzip(content) : content));
+            }
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(content);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,30 @@
+package extensions;
+
+import driver.CommandTimings;
+import io.qameta.allure.Allure;
+import metrics.LatencyRecorder;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Attaches latencies of WebDriver commands sent by each test to its Allure report,
+ * when timings are turned on with '-Dtimings=true' variable
+ */
+public class CommandTimingExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (CommandTimings.isEnabled()) {
+            CommandTimings.startTest();
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        LatencyRecorder recorder = CommandTimings.finishTest();
+        if (recorder != null && !recorder.isEmpty()) {
+            Allure.addAttachment("WebDriver command timings", "text/csv", recorder.toCsv(), ".csv");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package extensions;
+
+import driver.CommandTimings;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.nio.file.Path;
+
+/**
+ * Writes summary of WebDriver command latencies of the whole run to 'target/command-timings.json'
+ * and 'target/command-timings.csv', when timings are turned on with '-Dtimings=true' variable
+ */
+public class CommandTimingReporter implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (CommandTimings.isEnabled() && !CommandTimings.total().isEmpty()) {
+            CommandTimings.total().export(Path.of("target"), "command-timings");
+        }
+    }
+}
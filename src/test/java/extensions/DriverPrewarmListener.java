@@ -0,0 +1,25 @@
+package extensions;
+
+import driver.DriverKey;
+import driver.DriverPool;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+import static constants.constant.Urls.MAIN_PAGE;
+
+/**
+ * Launches browser sessions as soon as JUnit launcher session opens,
+ * so browser start and first navigation overlap with test discovery and class setup.
+ * Number of sessions is defined with '-Dprewarm' variable, 0 turns pre-warming off.
+ * In matrix mode sessions of every combination are launched by {@link MatrixLauncher} instead.
+ */
+public class DriverPrewarmListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        int sessions = Integer.parseInt(System.getProperty("prewarm", "1"));
+        if (sessions > 0 && DriverKey.matrixFromSystemProperties().isEmpty()) {
+            DriverPool.getInstance().prewarm(DriverKey.fromSystemProperties(), sessions, MAIN_PAGE);
+        }
+    }
+}
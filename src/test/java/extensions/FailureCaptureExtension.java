@@ -0,0 +1,61 @@
+package extensions;
+
+import driver.DriverContext;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Takes screenshot and page source of failed tests, and of tests slower than '-Dcapture.slowTest' milliseconds.
+ * Only raw content is taken on test thread, writing it to Allure report is left to {@link ArtifactPipeline}.
+ * Turned off with '-Dcapture=false'.
+ */
+public class FailureCaptureExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FailureCaptureExtension.class);
+    private static final String STARTED = "started";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (!Boolean.parseBoolean(System.getProperty("capture", "true"))) {
+            return;
+        }
+        long millis = (System.nanoTime() - context.getStore(NAMESPACE).remove(STARTED, long.class)) / 1_000_000;
+        long slowTest = Long.getLong("capture.slowTest", 0);
+        boolean failed = context.getExecutionException().isPresent();
+        if (failed || (slowTest > 0 && millis >= slowTest)) {
+            DriverContext.currentDriver().ifPresent(driver -> capture(driver, failed ? "failed" : "slow"));
+        }
+    }
+
+    private static void capture(WebDriver driver, String reason) {
+        ArtifactPipeline pipeline = ArtifactPipeline.getInstance();
+        boolean compress = Boolean.parseBoolean(System.getProperty("capture.compress", "true"));
+        try {
+            if (driver instanceof TakesScreenshot camera) {
+                pipeline.attach("Screenshot (" + reason + ")", "image/png", ".png",
+                        camera.getScreenshotAs(OutputType.BYTES), false);
+            }
+            byte[] source = driver.getPageSource().getBytes(StandardCharsets.UTF_8);
+            if (compress) {
+                pipeline.attach("Page source (" + reason + ")", "application/gzip", ".html.gz", source, true);
+            } else {
+                pipeline.attach("Page source (" + reason + ")", "text/html", ".html", source, false);
+            }
+        } catch (WebDriverException exception) {
+            // browser is gone or busy with alert, report shows why page is missing
+            Allure.addAttachment("Page not captured (" + reason + ")", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package extensions;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Starts test classes from the slowest one according to {@link TestDurations} of previous runs.
+ * Parallel workers take classes in this order, which makes it longest-processing-time-first schedule
+ * (see {@link LptScheduler}) and keeps workers from idling behind a slow class started last.
+ */
+public class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        List<String> order = LptScheduler.longestFirst(context.getClassDescriptors().stream()
+                .map(descriptor -> descriptor.getTestClass().getName())
+                .toList(), TestDurations.previous());
+        context.getClassDescriptors().sort(Comparator.comparingInt(
+                (ClassDescriptor descriptor) -> order.indexOf(descriptor.getTestClass().getName())));
+    }
+}
@@ -0,0 +1,34 @@
+package extensions;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Runs methods of a class from the slowest one according to {@link TestDurations} of previous runs.
+ * Only for classes whose methods do not depend on each other, turned on with
+ * '-Djunit.jupiter.testmethod.order.default=extensions.LongestFirstMethodOrderer'
+ * or '@TestMethodOrder(LongestFirstMethodOrderer.class)'.
+ */
+public class LongestFirstMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        List<String> order = LptScheduler.longestFirst(context.getMethodDescriptors().stream()
+                .map(descriptor -> key(descriptor.getMethod()))
+                .toList(), TestDurations.previous());
+        context.getMethodDescriptors().sort(Comparator.comparingInt(
+                (MethodDescriptor descriptor) -> order.indexOf(key(descriptor.getMethod()))));
+    }
+
+    private static String key(Method method) {
+        return TestDurations.methodKey(method.getDeclaringClass().getName(), method.getName(),
+                Arrays.stream(method.getParameterTypes()).map(Class::getName).collect(Collectors.joining(", ")));
+    }
+}
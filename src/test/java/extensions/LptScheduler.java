@@ -0,0 +1,128 @@
+package extensions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Longest-processing-time-first scheduling: jobs are taken from the longest to the shortest
+ * and each one goes to the least loaded worker. Makespan is at most 4/3 of optimal,
+ * in practice close to total work divided by number of workers.
+ */
+public final class LptScheduler {
+
+    private LptScheduler() {
+    }
+
+    /**
+     * Jobs assigned to one worker
+     *
+     * @param jobs   defines jobs in order they run
+     * @param millis defines total expected duration of the jobs
+     */
+    public record Worker(List<String> jobs, long millis) {
+    }
+
+    /**
+     * Assignment of jobs to workers
+     *
+     * @param workers   defines jobs of every worker
+     * @param totalWork defines sum of expected durations of all jobs
+     */
+    public record Schedule(List<Worker> workers, long totalWork) {
+
+        /**
+         * Expected duration of the whole run, the load of the busiest worker
+         */
+        public long makespan() {
+            return workers.stream().mapToLong(Worker::millis).max().orElse(0);
+        }
+
+        /**
+         * Makespan of perfectly balanced run, no schedule can be shorter
+         */
+        public long lowerBound() {
+            return workers.isEmpty() ? 0 : (totalWork + workers.size() - 1) / workers.size();
+        }
+    }
+
+    /**
+     * Order jobs from the longest to the shortest. Jobs without history are expected to take average time.
+     *
+     * @param jobs      defines jobs to order
+     * @param durations defines known durations of jobs
+     */
+    public static List<String> longestFirst(Collection<String> jobs, Map<String, Long> durations) {
+        long estimate = estimate(jobs, durations);
+        List<String> ordered = new ArrayList<>(jobs);
+        ordered.sort(Comparator.comparingLong((String job) -> durations.getOrDefault(job, estimate)).reversed());
+        return ordered;
+    }
+
+    /**
+     * Assign jobs to workers
+     *
+     * @param jobs      defines jobs to assign
+     * @param durations defines known durations of jobs
+     * @param workers   defines number of workers
+     */
+    public static Schedule schedule(Collection<String> jobs, Map<String, Long> durations, int workers) {
+        long estimate = estimate(jobs, durations);
+        List<List<String>> assigned = new ArrayList<>();
+        long[] loads = new long[Math.max(1, workers)];
+        for (int i = 0; i < loads.length; i++) {
+            assigned.add(new ArrayList<>());
+        }
+        long totalWork = 0;
+        for (String job : longestFirst(jobs, durations)) {
+            int leastLoaded = 0;
+            for (int i = 1; i < loads.length; i++) {
+                if (loads[i] < loads[leastLoaded]) {
+                    leastLoaded = i;
+                }
+            }
+            long millis = durations.getOrDefault(job, estimate);
+            loads[leastLoaded] += millis;
+            totalWork += millis;
+            assigned.get(leastLoaded).add(job);
+        }
+        List<Worker> result = new ArrayList<>();
+        for (int i = 0; i < loads.length; i++) {
+            result.add(new Worker(List.copyOf(assigned.get(i)), loads[i]));
+        }
+        return new Schedule(List.copyOf(result), totalWork);
+    }
+
+    /**
+     * Number of workers JUnit runs test classes on, derived from parallel execution settings
+     *
+     * @param configuration defines lookup of JUnit configuration parameters
+     */
+    public static int workers(Function<String, Optional<String>> configuration) {
+        boolean parallel = configuration.apply("junit.jupiter.execution.parallel.enabled")
+                .map(Boolean::parseBoolean).orElse(false);
+        if (!parallel) {
+            return 1;
+        }
+        String strategy = configuration.apply("junit.jupiter.execution.parallel.config.strategy").orElse("dynamic");
+        if (strategy.equals("fixed")) {
+            return configuration.apply("junit.jupiter.execution.parallel.config.fixed.parallelism")
+                    .map(Integer::parseInt).orElse(1);
+        }
+        double factor = configuration.apply("junit.jupiter.execution.parallel.config.dynamic.factor")
+                .map(Double::parseDouble).orElse(1.0);
+        return Math.max(1, (int) (Runtime.getRuntime().availableProcessors() * factor));
+    }
+
+    private static long estimate(Collection<String> jobs, Map<String, Long> durations) {
+        return (long) jobs.stream()
+                .filter(durations::containsKey)
+                .mapToLong(durations::get)
+                .average()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,43 @@
+package extensions;
+
+import driver.DriverContext;
+import driver.DriverKey;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Parameter;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Optional;
+
+/**
+ * Binds test class to browser combination it runs against in matrix mode (see {@link MatrixLauncher})
+ * and labels its Allure results with that combination, so runs of all browsers can share one report.
+ * Without matrix configuration parameters the class uses browser of '-Dbrowser' and '-Dheadless' variables.
+ */
+public class MatrixExtension implements BeforeAllCallback, BeforeEachCallback {
+    public static final String BROWSER_PARAMETER = "matrix.browser";
+    public static final String HEADLESS_PARAMETER = "matrix.headless";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        matrixKey(context).ifPresent(DriverContext::bind);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        matrixKey(context).ifPresent(key -> Allure.getLifecycle().updateTestCase(result -> {
+            result.getParameters().add(new Parameter().setName("browser").setValue(key.toString()));
+            result.getLabels().add(new Label().setName("parentSuite").setValue(key.toString()));
+            if (result.getHistoryId() != null) {
+                result.setHistoryId(result.getHistoryId() + ":" + key);
+            }
+        }));
+    }
+
+    private static Optional<DriverKey> matrixKey(ExtensionContext context) {
+        return context.getConfigurationParameter(BROWSER_PARAMETER).map(browser -> new DriverKey(browser,
+                context.getConfigurationParameter(HEADLESS_PARAMETER).map(Boolean::parseBoolean).orElse(false)));
+    }
+}
@@ -0,0 +1,95 @@
+package extensions;
+
+import driver.DriverKey;
+import driver.DriverPool;
+import io.qameta.allure.Allure;
+import metrics.CompactStepLifecycle;
+import metrics.PageTimings;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.PrintWriter;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static constants.constant.Urls.MAIN_PAGE;
+import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+/**
+ * Runs test classes against several browser combinations at once, e.g.
+ * '-Dmatrix=chrome:true,firefox:true,edge:true'. Every combination is a separate JUnit run in this JVM
+ * with its own sessions from {@link DriverPool}, results of all runs go to the same 'allure-results'.
+ * Test classes are chosen with '-Dmatrix.include' class name pattern, by default all '*Test' classes.
+ */
+public final class MatrixLauncher {
+
+    private MatrixLauncher() {
+    }
+
+    public static void main(String[] args) throws URISyntaxException {
+        List<DriverKey> matrix = DriverKey.matrixFromSystemProperties();
+        if (matrix.isEmpty()) {
+            throw new IllegalArgumentException("No browsers to run, set them with -Dmatrix=chrome:true,firefox:true");
+        }
+        int sessions = Integer.parseInt(System.getProperty("prewarm", "1"));
+        if (sessions > 0) {
+            matrix.forEach(key -> DriverPool.getInstance().prewarm(key, sessions, MAIN_PAGE));
+        }
+        Path testClasses = Path.of(MatrixLauncher.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        String include = System.getProperty("matrix.include", ".*Test");
+
+        // lifecycle is created lazily and not thread-safe, concurrent runs have to share one instance
+        CompactStepLifecycle.installFromSystemProperties();
+        Allure.getLifecycle();
+        long started = System.nanoTime();
+        Map<DriverKey, CompletableFuture<TestExecutionSummary>> runs = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(matrix.size());
+        for (DriverKey key : matrix) {
+            runs.put(key, CompletableFuture.supplyAsync(() -> run(key, testClasses, include), executor));
+        }
+
+        PrintWriter out = new PrintWriter(System.out, true);
+        long failures = 0;
+        for (Map.Entry<DriverKey, CompletableFuture<TestExecutionSummary>> run : runs.entrySet()) {
+            TestExecutionSummary summary = run.getValue().join();
+            out.printf("%n========== %s: %d tests, %d failed, %d s ==========%n", run.getKey(),
+                    summary.getTestsFoundCount(), summary.getTotalFailureCount(),
+                    Duration.ofMillis(summary.getTimeFinished() - summary.getTimeStarted()).toSeconds());
+            summary.printFailuresTo(out, 10);
+            failures += summary.getTotalFailureCount();
+        }
+        executor.shutdown();
+        if (PageTimings.isEnabled()) {
+            PageTimings.export(Path.of("target"), "page-timings");
+        }
+        out.printf("%nMatrix of %d combinations finished in %d s%n", matrix.size(),
+                Duration.ofNanos(System.nanoTime() - started).toSeconds());
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static TestExecutionSummary run(DriverKey key, Path testClasses, String include) {
+        LauncherDiscoveryRequest request = request()
+                .selectors(selectClasspathRoots(Set.of(testClasses)))
+                .filters(includeClassNamePatterns(include))
+                .configurationParameter(MatrixExtension.BROWSER_PARAMETER, key.browser())
+                .configurationParameter(MatrixExtension.HEADLESS_PARAMETER, String.valueOf(key.headless()))
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        Launcher launcher = LauncherFactory.create();
+        launcher.execute(request, listener);
+        return listener.getSummary();
+    }
+}
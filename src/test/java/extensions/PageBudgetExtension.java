@@ -0,0 +1,25 @@
+package extensions;
+
+import metrics.PageTimings;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Fails the test when a page it opened is over budget, see {@link PageTimings}.
+ * Pages reloaded while restoring state before the test are not checked.
+ */
+public class PageBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (PageTimings.isEnabled()) {
+            PageTimings.track();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        PageTimings.tracked().forEach(PageTimings::checkBudgets);
+    }
+}
@@ -0,0 +1,23 @@
+package extensions;
+
+import metrics.PageTimings;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.nio.file.Path;
+
+/**
+ * Writes load metrics of pages opened during the run to 'target/page-timings.json' and 'target/page-timings.csv',
+ * and appends them to history file when it is set, see {@link PageTimings#export(Path, String)}.
+ * In matrix mode every browser runs its own test plan in the same JVM, so {@link MatrixLauncher} exports once at the end.
+ */
+public class PageTimingReporter implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        boolean matrix = testPlan.getConfigurationParameters().get(MatrixExtension.BROWSER_PARAMETER).isPresent();
+        if (PageTimings.isEnabled() && !matrix) {
+            PageTimings.export(Path.of("target"), "page-timings");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package extensions;
+
+import metrics.CompactStepLifecycle;
+import org.junit.platform.launcher.TestExecutionListener;
+
+/**
+ * Installs compact Allure step reporting ('-Dsteps=compact') before Allure listener of JUnit platform
+ * takes the lifecycle, which is why it is registered first in 'META-INF/services'.
+ */
+public class StepReportingListener implements TestExecutionListener {
+
+    public StepReportingListener() {
+        CompactStepLifecycle.installFromSystemProperties();
+    }
+}
@@ -0,0 +1,86 @@
+package extensions;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures durations of test classes and methods and stores them in {@link TestDurations} for the next run.
+ * Writes 'target/test-schedule.json' comparing actual run time with the balanced lower bound
+ * and the {@link LptScheduler} plan for the measured classes.
+ */
+public class TestDurationRecorder implements TestExecutionListener {
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final Map<String, Long> measured = new ConcurrentHashMap<>();
+    private final Map<String, Long> classes = new ConcurrentHashMap<>();
+    private long planStarted;
+    private int workers;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        planStarted = System.nanoTime();
+        workers = LptScheduler.workers(testPlan.getConfigurationParameters()::get);
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        started.put(testIdentifier.getUniqueId(), System.nanoTime());
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        Long start = started.remove(testIdentifier.getUniqueId());
+        TestSource source = testIdentifier.getSource().orElse(null);
+        if (start == null || source == null) {
+            return;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (source instanceof ClassSource classSource) {
+            classes.merge(classSource.getClassName(), millis, Long::sum);
+        } else if (source instanceof MethodSource methodSource && testIdentifier.isTest()) {
+            measured.merge(TestDurations.methodKey(methodSource.getClassName(), methodSource.getMethodName(),
+                    methodSource.getMethodParameterTypes()), millis, Long::sum);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (classes.isEmpty()) {
+            return;
+        }
+        Map<String, Long> durations = new LinkedHashMap<>(measured);
+        durations.putAll(classes);
+        TestDurations.store(durations);
+
+        LptScheduler.Schedule plan = LptScheduler.schedule(classes.keySet(), classes, workers);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("workers", workers);
+        report.put("totalWorkMillis", plan.totalWork());
+        report.put("lowerBoundMillis", plan.lowerBound());
+        report.put("plannedMakespanMillis", plan.makespan());
+        report.put("actualMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - planStarted));
+        report.put("plan", plan.workers().stream()
+                .map(worker -> Map.of("millis", worker.millis(), "classes", worker.jobs()))
+                .toList());
+        try {
+            Files.createDirectories(Path.of("target"));
+            Files.writeString(Path.of("target", "test-schedule.json"), new Json().toJson(report));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
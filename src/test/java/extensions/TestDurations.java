@@ -0,0 +1,84 @@
+package extensions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Durations of test classes and methods measured in previous runs.
+ * Stored in '.test-durations.properties' of project directory, so history survives 'mvn clean';
+ * another file can be set with '-Ddurations.file' variable.
+ * Each run is averaged with stored value, so single slow run does not reshuffle the schedule.
+ */
+public final class TestDurations {
+    private static Map<String, Long> previous;
+
+    private TestDurations() {
+    }
+
+    /**
+     * Durations measured in previous runs in milliseconds, empty on first run
+     */
+    public static synchronized Map<String, Long> previous() {
+        if (previous == null) {
+            Map<String, Long> loaded = new HashMap<>();
+            Path file = file();
+            if (Files.isRegularFile(file)) {
+                Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    properties.load(reader);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+                properties.forEach((key, value) -> loaded.put((String) key, Long.parseLong((String) value)));
+            }
+            previous = Collections.unmodifiableMap(loaded);
+        }
+        return previous;
+    }
+
+    /**
+     * Merge durations of current run into stored ones
+     *
+     * @param measured defines durations of current run in milliseconds
+     */
+    public static synchronized void store(Map<String, Long> measured) {
+        Map<String, Long> merged = new HashMap<>(previous());
+        measured.forEach((key, millis) -> merged.merge(key, millis, (old, current) -> (old + current) / 2));
+        Properties properties = new Properties();
+        merged.forEach((key, millis) -> properties.setProperty(key, String.valueOf(millis)));
+        Path file = file();
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, "Test durations in milliseconds");
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        previous = Collections.unmodifiableMap(merged);
+    }
+
+    /**
+     * Key of test method, invocations of parameterized method share it
+     *
+     * @param className      defines class declaring the method
+     * @param methodName     defines name of the method
+     * @param parameterTypes defines comma separated parameter types
+     */
+    public static String methodKey(String className, String methodName, String parameterTypes) {
+        return className + "#" + methodName + "(" + parameterTypes + ")";
+    }
+
+    private static Path file() {
+        return Path.of(System.getProperty("durations.file", ".test-durations.properties"));
+    }
+}
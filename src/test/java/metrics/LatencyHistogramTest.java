@@ -0,0 +1,44 @@
+package metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Latency Histogram Test Suite")
+public class LatencyHistogramTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 15, 16, 17, 31, 32, 1000, 256_000, 586_876, 10_000_000_000L, Long.MAX_VALUE / 1_000})
+    @DisplayName("Bucket Middle Is Within 1/32 Of Value")
+    public void checkBucketPrecision(long micros) {
+        long middle = LatencyHistogram.middle(LatencyHistogram.bucket(micros));
+        Assertions.assertTrue(Math.abs(middle - micros) <= micros / 32, micros + " reported as " + middle);
+    }
+
+    @Test
+    @DisplayName("Percentiles Follow Measurements")
+    public void checkPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1_000_000);
+        }
+        Assertions.assertEquals(1000, histogram.count());
+        Assertions.assertEquals(500_500, histogram.meanMicros());
+        assertClose(500_000, histogram.percentileMicros(50));
+        assertClose(900_000, histogram.percentileMicros(90));
+        assertClose(990_000, histogram.percentileMicros(99));
+        Assertions.assertEquals(1_000_000, histogram.percentileMicros(100));
+    }
+
+    @Test
+    @DisplayName("Empty Histogram Reports Zero")
+    public void checkEmpty() {
+        Assertions.assertEquals(0, new LatencyHistogram().percentileMicros(50));
+    }
+
+    private static void assertClose(long expected, long actual) {
+        Assertions.assertTrue(Math.abs(expected - actual) <= expected / 32, "expected about " + expected + " but was " + actual);
+    }
+}
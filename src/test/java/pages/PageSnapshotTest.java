@@ -0,0 +1,69 @@
+package pages;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByChained;
+
+@DisplayName("Page Snapshot Test Suite")
+public class PageSnapshotTest {
+    private static final String HTML = """
+            <html><body>
+            <input name="q" class="Box"><input name="Q" class="box big">
+            <a href="link1.html" lang="en-US">1</a><a href="LINK1.html" lang="EN">2</a><a>3</a>
+            <div title="a [b] 'c'">4</div>
+            <input type="TEXT"><span data-code="ab-c"></span><span data-code="AB"></span><span data-code="abc"></span>
+            </body></html>
+            """;
+    private final PageSnapshot snapshot = new PageSnapshot("epoch", HTML, "file:///");
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = ';', value = {
+            "*[name='q'];1",
+            "*[name=\"Q\"];1",
+            "input[name=q];1",
+            "[name='q' i];2",
+            "[name='q' s];1",
+            "a[href^='link'];1",
+            "a[href$='1.html'];2",
+            "a[href$='K1.html'];1",
+            "a[href*='ink'];1",
+            "a[href*=''];0",
+            "[class~='box'];1",
+            "[class~='Box'];1",
+            "[class~=''];0",
+            "[lang|='en'];2",
+            "[data-code|='ab'];1",
+            "[data-code|=AB];1",
+            "[title='a [b] \\'c\\''];1",
+            "[type='text'];1",
+            "[name='\\71'];1"})
+    @DisplayName("Attribute Values Compared Like In Browser")
+    public void checkAttributeValueCase(String css, int expected) {
+        Assertions.assertEquals(expected, snapshot.count(By.cssSelector(css)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"q,1", "Q,1", "query,0"})
+    @DisplayName("Name Locator Is Case-Sensitive")
+    public void checkNameLocator(String name, int expected) {
+        Assertions.assertEquals(expected, snapshot.count(By.name(name)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"box,1", "Box,1", "BOX,0"})
+    @DisplayName("Class Locator Is Case-Sensitive")
+    public void checkClassLocator(String className, int expected) {
+        Assertions.assertEquals(expected, snapshot.count(By.className(className)));
+    }
+
+    @Test
+    @DisplayName("Only Standard Locators Are Resolved In Snapshot")
+    public void checkSupportedLocators() {
+        Assertions.assertTrue(PageSnapshot.supports(By.xpath("//a")));
+        Assertions.assertFalse(PageSnapshot.supports(new ByChained(By.tagName("body"), By.tagName("a"))));
+    }
+}
@@ -0,0 +1,82 @@
+package pages;
+
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Optional;
+
+@DisplayName("XPath To CSS Test Suite")
+public class XPathToCssTest {
+    private static final String HTML = """
+            <html><body>
+            <div id="links" class="section"><p>Links</p>
+              <a href="link1.html">1</a><a href="LINK1.html">2</a><a>3</a><a href="">4</a>
+            </div>
+            <form><input id="text1" name="name" type="text"><input id="text2" name="email" type="TEXT" disabled></form>
+            <select id="select-dropdown"><option value="1">1</option><option value="2">2</option></select>
+            <table><tbody><tr><td>a</td><td>b</td></tr><tr><td>c</td><td>d</td></tr></tbody></table>
+            </body></html>
+            """;
+    private final PageSnapshot snapshot = new PageSnapshot("epoch", HTML, "file:///");
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = ';', value = {
+            "//*[@id='title'];By.id: title",
+            "//select[@id='select-dropdown'];By.cssSelector: select[id=\"select-dropdown\"]",
+            "//a[@href='link1.html'];By.cssSelector: a[href=\"link1.html\"]",
+            "//a[contains(@href,'')];By.cssSelector: a",
+            "//a[starts-with(@href,\"\") and @href];By.cssSelector: a[href]",
+            "//a[contains(@href,'link')];By.cssSelector: a[href*=\"link\"]",
+            "//tbody/tr[1]/td[2];By.cssSelector: tbody > tr:nth-of-type(1) > td:nth-of-type(2)",
+            "//div/*[2];By.cssSelector: div > *:nth-child(2)"})
+    @DisplayName("XPath Is Rewritten")
+    public void checkRewrite(String xpath, String expected) {
+        Assertions.assertEquals(Optional.of(expected), XPathToCss.rewrite(xpath).map(By::toString));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "//a[contains(@href,'')]",
+            "//a[starts-with(@href,'')]",
+            "//a[contains(@href,'') and @href]",
+            "//a[@href='']",
+            "//a[@href]",
+            "//a[contains(@href,'link')]",
+            "//a[starts-with(@href,'LINK')]",
+            "//a[@href='LINK1.html']",
+            "//*[@id='text1']",
+            "//form/input[2]",
+            "//tbody/tr[2]/td[1]",
+            "//div/*[1]",
+            "//div//a[3]"})
+    @DisplayName("Rewritten Locator Finds Same Elements")
+    public void checkEquivalence(String xpath) {
+        By css = XPathToCss.rewrite(xpath).orElseThrow();
+        Assertions.assertEquals(found(By.xpath(xpath)), found(css), xpath + " rewritten as " + css);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "//input[@type='text']",
+            "//a[contains(@lang,'en')]",
+            "//a[text()='1']",
+            "//a[@href='x' or @href='y']",
+            "//a[@href][1]",
+            "(//a)[1]",
+            "/html/body",
+            "//div[p[1]]"})
+    @DisplayName("Unsupported XPath Stays XPath")
+    public void checkNotRewritten(String xpath) {
+        Assertions.assertEquals(Optional.empty(), XPathToCss.rewrite(xpath));
+    }
+
+    private List<String> found(By locator) {
+        return snapshot.select(locator).stream().map(Element::outerHtml).toList();
+    }
+}